@@ -0,0 +1,76 @@
+package com.zss.structures.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 16:40
+ * @desc 定长键(记录)的编解码器，用于把键写入磁盘页(MappedBPlusTree)或直接内存(OffHeapList)
+ */
+public interface KeyCodec<T> {
+
+    /**
+     * 每个键占用的字节数
+     *
+     * @return 字节数
+     */
+    int width();
+
+    /**
+     * 把键写入 buffer 的指定位置，不改变 buffer 的 position
+     *
+     * @param buffer 目标
+     * @param offset 绝对位置
+     * @param key    键
+     */
+    void write(ByteBuffer buffer, int offset, T key);
+
+    /**
+     * 从 buffer 的指定位置读出键，不改变 buffer 的 position
+     *
+     * @param buffer 来源
+     * @param offset 绝对位置
+     * @return 键
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * int 键: 4 字节
+     */
+    KeyCodec<Integer> INT = new KeyCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer key) {
+            buffer.putInt(offset, key);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * long 键: 8 字节
+     */
+    KeyCodec<Long> LONG = new KeyCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long key) {
+            buffer.putLong(offset, key);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+}
@@ -0,0 +1,312 @@
+package com.zss.structures.list;
+
+import com.zss.structures.list.inter.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 16:30
+ * @desc 数组表 -- int 特化版本
+ * 与 MyArrayList 的操作相同，但直接保存 int[]，每个元素只占 4 字节，读写都不装箱
+ */
+@SuppressWarnings("unused")
+public class IntArrayList {
+
+    /**
+     * 默认容量
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * 数组的最大长度，部分虚拟机会在数组中保留一些头部字
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+
+    private int theSize;
+    private int[] theItems;
+    /**
+     * 结构修改(改变大小)的次数，迭代器据此快速失败
+     */
+    private int modCount;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * @param initialCapacity 初始容量，clear 之后也恢复到这个容量
+     * @param growthPolicy    扩容策略
+     */
+    public IntArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        doClear();
+    }
+
+    public void clear() {
+        doClear();
+    }
+
+    public int size() {
+        return theSize;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void trimToSize() {
+        ensureCapacity(size());
+    }
+
+    public int get(int idx) {
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        return theItems[idx];
+    }
+
+    public int set(int idx, int newVal) {
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        int old = theItems[idx];
+        theItems[idx] = newVal;
+        return old;
+    }
+
+    public boolean add(int x) {
+        if (theItems.length == theSize) {
+            grow(theSize + 1);
+        }
+        theItems[theSize++] = x;
+        modCount++;
+        return true;
+    }
+
+    public void add(int idx, int x) {
+        if (idx < 0 || idx > size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        if (theItems.length == size()) {
+            grow(theSize + 1);
+        }
+        System.arraycopy(theItems, idx, theItems, idx + 1, theSize - idx);
+        theItems[idx] = x;
+        theSize++;
+        modCount++;
+    }
+
+    /**
+     * 批量追加，只扩容一次
+     *
+     * @param items 追加的项
+     * @return 是否改变了表
+     */
+    public boolean addAll(int[] items) {
+        return addAll(size(), items);
+    }
+
+    /**
+     * 批量插入到 idx 处，后面的项只整体移动一次
+     *
+     * @param idx   插入位置
+     * @param items 插入的项
+     * @return 是否改变了表
+     */
+    public boolean addAll(int idx, int[] items) {
+        if (idx < 0 || idx > size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        int n = items.length;
+        if (n == 0) {
+            return false;
+        }
+        if (theItems.length - theSize < n) {
+            grow(theSize + n);
+        }
+        System.arraycopy(theItems, idx, theItems, idx + n, theSize - idx);
+        System.arraycopy(items, 0, theItems, idx, n);
+        theSize += n;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * 删除 idx 处的项(注意参数是位置而不是值)
+     *
+     * @param idx 位置
+     * @return 被删除的项
+     */
+    public int remove(int idx) {
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        int removedItem = theItems[idx];
+        System.arraycopy(theItems, idx + 1, theItems, idx, theSize - idx - 1);
+        theSize--;
+        modCount++;
+        return removedItem;
+    }
+
+    /**
+     * 批量删除 [fromIdx, toIdx) 的项，后面的项只整体移动一次
+     *
+     * @param fromIdx 起始位置(包含)
+     * @param toIdx   结束位置(不包含)
+     */
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size() || fromIdx > toIdx) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        System.arraycopy(theItems, toIdx, theItems, fromIdx, theSize - toIdx);
+        theSize -= toIdx - fromIdx;
+        modCount++;
+    }
+
+    public void ensureCapacity(int newCapacity) {
+        if (newCapacity < theSize) {
+            return;
+        }
+        theItems = Arrays.copyOf(theItems, newCapacity);
+    }
+
+    /**
+     * 升序排序 -- 双轴快速排序，原地进行
+     */
+    public void sort() {
+        Arrays.sort(theItems, 0, theSize);
+        modCount++;
+    }
+
+    /**
+     * 并行升序排序 -- 各段双轴快速排序后并行归并，需要 N 的临时空间
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(theItems, 0, theSize);
+        modCount++;
+    }
+
+    /**
+     * 二分查找，表必须已经升序排列
+     *
+     * @param key 查找的值
+     * @return 找到时返回位置；否则返回 -(插入点) - 1
+     */
+    public int binarySearch(int key) {
+        return Arrays.binarySearch(theItems, 0, theSize, key);
+    }
+
+    /**
+     * 复制出一个刚好容纳所有项的数组
+     *
+     * @return 数组
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(theItems, theSize);
+    }
+
+    /**
+     * 依次处理每一项，不装箱也不创建迭代器。action 中修改了表的结构时抛出 ConcurrentModificationException
+     *
+     * @param action 操作
+     */
+    public void forEach(IntConsumer action) {
+        int expectedModCount = modCount;
+        int[] items = theItems;
+        for (int i = 0, n = theSize; i < n && modCount == expectedModCount; i++) {
+            action.accept(items[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * 迭代器。使用 nextInt() 取值时不装箱
+     *
+     * @return iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new ArrayListIterator();
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    /**
+     * 按扩容策略扩容，至少到 minCapacity
+     *
+     * @param minCapacity 至少需要的容量
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        int newCapacity = growthPolicy.newCapacity(theItems.length, minCapacity);
+        // 溢出(变成负数)或超过上限时截断
+        if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = MAX_ARRAY_SIZE;
+        }
+        ensureCapacity(Math.max(newCapacity, minCapacity));
+    }
+
+    private void doClear() {
+        theSize = 0;
+        theItems = new int[initialCapacity];
+        modCount++;
+    }
+
+    private class ArrayListIterator implements PrimitiveIterator.OfInt {
+
+        private int current = 0;
+        private int expectedModCount = modCount;
+        private boolean okToRemove = false;
+
+        @Override
+        public boolean hasNext() {
+            return current < size();
+        }
+
+        @Override
+        public int nextInt() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            okToRemove = true;
+            return theItems[current++];
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!okToRemove) {
+                throw new IllegalStateException();
+            }
+            IntArrayList.this.remove(--current);
+            expectedModCount = modCount;
+            okToRemove = false;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
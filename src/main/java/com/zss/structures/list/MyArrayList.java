@@ -1,9 +1,20 @@
 package com.zss.structures.list;
 
+import com.zss.structures.list.inter.GrowthPolicy;
+import com.zss.structures.list.inter.MyList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author ZSS
@@ -11,36 +22,75 @@ import java.util.function.Consumer;
  * @desc
  */
 @SuppressWarnings("unused")
-public class MyArrayList<T> implements Iterable<T> {
+public class MyArrayList<T> implements MyList<T>, Iterable<T> {
 
     /**
      * 默认容量
      */
     private static final int DEFAULT_CAPACITY = 10;
 
+    /**
+     * 并行排序时，不超过这个长度的区间直接顺序排序，不再分割
+     */
+    private static final int MIN_PARALLEL_SORT_GRANULARITY = 1 << 13;
+
+    /**
+     * 数组的最大长度，部分虚拟机会在数组中保留一些头部字
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+
     private int theSize;
     private T[] theItems;
+    /**
+     * 结构修改(改变大小)的次数，迭代器据此快速失败
+     */
+    private int modCount;
 
     public MyArrayList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+    }
+
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * @param initialCapacity 初始容量，clear 之后也恢复到这个容量
+     * @param growthPolicy    扩容策略
+     */
+    public MyArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
         doClear();
     }
 
+    @Override
     public void clear() {
         doClear();
     }
 
+    @Override
     public int size() {
         return theSize;
     }
 
+    @Override
     public boolean isEmpty() {
         return size() == 0;
     }
 
+    @Override
     public void trimToSize() {
         ensureCapacity(size());
     }
 
+    @Override
     public T get(int idx) {
         if (idx < 0 || idx >= size()) {
             throw new ArrayIndexOutOfBoundsException();
@@ -48,6 +98,7 @@ public class MyArrayList<T> implements Iterable<T> {
         return theItems[idx];
     }
 
+    @Override
     public T set(int idx, T newVal) {
         if (idx < 0 || idx >= size()) {
             throw new ArrayIndexOutOfBoundsException();
@@ -58,39 +109,127 @@ public class MyArrayList<T> implements Iterable<T> {
     }
 
     public boolean add(T x) {
-        add(size(), x);
+        if (theItems.length == theSize) {
+            grow(theSize + 1);
+        }
+        theItems[theSize++] = x;
+        modCount++;
         return true;
     }
 
     public void add(int idx, T x) {
-        if (theItems.length == size()) {
-            ensureCapacity(size() * 2 + 1);
+        if (idx < 0 || idx > size()) {
+            throw new ArrayIndexOutOfBoundsException();
         }
-        for (int i = theSize; i > idx; i--) {
-            theItems[i] = theItems[i - 1];
+        if (theItems.length == size()) {
+            grow(theSize + 1);
         }
+        System.arraycopy(theItems, idx, theItems, idx + 1, theSize - idx);
         theItems[idx] = x;
         theSize++;
+        modCount++;
+    }
+
+    /**
+     * 批量追加，只扩容一次
+     *
+     * @param c 追加的项
+     * @return 是否改变了表
+     */
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * 批量插入到 idx 处，后面的项只整体移动一次
+     *
+     * @param idx 插入位置
+     * @param c   插入的项
+     * @return 是否改变了表
+     */
+    public boolean addAll(int idx, Collection<? extends T> c) {
+        if (idx < 0 || idx > size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        Object[] items = c.toArray();
+        int n = items.length;
+        if (n == 0) {
+            return false;
+        }
+        if (theItems.length - theSize < n) {
+            grow(theSize + n);
+        }
+        System.arraycopy(theItems, idx, theItems, idx + n, theSize - idx);
+        System.arraycopy(items, 0, theItems, idx, n);
+        theSize += n;
+        modCount++;
+        return true;
     }
 
     public T remove(int idx) {
-        T removedItem = theItems[idx];
-        for (int i = idx; i < size(); i++) {
-            theItems[i] = theItems[i + 1];
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
         }
-        theSize--;
+        T removedItem = theItems[idx];
+        System.arraycopy(theItems, idx + 1, theItems, idx, theSize - idx - 1);
+        // 释放引用，便于回收
+        theItems[--theSize] = null;
+        modCount++;
         return removedItem;
     }
 
+    /**
+     * 批量删除 [fromIdx, toIdx) 的项，后面的项只整体移动一次
+     *
+     * @param fromIdx 起始位置(包含)
+     * @param toIdx   结束位置(不包含)
+     */
+    public void removeRange(int fromIdx, int toIdx) {
+        if (fromIdx < 0 || toIdx > size() || fromIdx > toIdx) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        System.arraycopy(theItems, toIdx, theItems, fromIdx, theSize - toIdx);
+        int newSize = theSize - (toIdx - fromIdx);
+        Arrays.fill(theItems, newSize, theSize, null);
+        theSize = newSize;
+        modCount++;
+    }
+
+    @Override
     public void ensureCapacity(int newCapacity) {
         if (newCapacity < theSize) {
             return;
         }
-        T[] old = theItems;
-        theItems = (T[]) new Object[newCapacity];
-        for (int i = 0; i < size(); i++) {
-            theItems[i] = old[i];
+        theItems = Arrays.copyOf(theItems, newCapacity);
+    }
+
+    /**
+     * 原地排序 -- 稳定，O(N log N)，直接在 theItems 上进行(TimSort，只需要不超过 N/2 的临时空间)
+     *
+     * @param c 比较器，为 null 时按自然顺序
+     */
+    public void sort(Comparator<? super T> c) {
+        Arrays.sort(theItems, 0, theSize, c);
+        modCount++;
+    }
+
+    /**
+     * 并行排序 -- 稳定。ForkJoin 归并排序：对半分割直到区间足够小，各区间顺序排序，然后逐层归并。
+     * 所有归并共用一个 N/2 + 1 的缓冲区，左半部分复制到缓冲区后归并回 theItems
+     *
+     * @param c 比较器，为 null 时按自然顺序
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> c) {
+        int n = theSize;
+        if (n <= MIN_PARALLEL_SORT_GRANULARITY) {
+            sort(c);
+            return;
         }
+        Comparator<? super T> cmp = c != null ? c : (Comparator<? super T>) Comparator.naturalOrder();
+        Object[] buffer = new Object[n / 2 + 1];
+        ForkJoinPool.commonPool().invoke(new MergeSortTask<>(theItems, buffer, 0, n, cmp));
+        modCount++;
     }
 
     @Override
@@ -100,24 +239,125 @@ public class MyArrayList<T> implements Iterable<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Iterable.super.forEach(action);
+        int expectedModCount = modCount;
+        T[] items = theItems;
+        for (int i = 0, n = theSize; i < n && modCount == expectedModCount; i++) {
+            action.accept(items[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
+    /**
+     * 数组分割器: 大小已知(SIZED/SUBSIZED)，每次从中间对半分割，并行流可以均匀地分配给各个线程
+     *
+     * @return spliterator
+     */
     @Override
     public Spliterator<T> spliterator() {
-        return Iterable.super.spliterator();
+        return new ArrayListSpliterator(0, theSize, modCount);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     // ====================== 内部方法 ====================== //
 
+    /**
+     * 按扩容策略扩容，至少到 minCapacity
+     *
+     * @param minCapacity 至少需要的容量
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        int newCapacity = growthPolicy.newCapacity(theItems.length, minCapacity);
+        // 溢出(变成负数)或超过上限时截断
+        if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = MAX_ARRAY_SIZE;
+        }
+        ensureCapacity(Math.max(newCapacity, minCapacity));
+    }
+
+    @SuppressWarnings("unchecked")
     private void doClear() {
+        modCount++;
         theSize = 0;
-        ensureCapacity(DEFAULT_CAPACITY);
+        theItems = (T[]) new Object[initialCapacity];
+    }
+
+    /**
+     * 归并排序 [lo, hi)。左右两半并行排序，之后把左半部分复制到 buffer，从前向后归并回 items。
+     * 写入位置永远不会超过右半部分的读取位置，所以右半部分不需要复制
+     */
+    private static final class MergeSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] items;
+        private final Object[] buffer;
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> c;
+
+        MergeSortTask(T[] items, Object[] buffer, int lo, int hi, Comparator<? super T> c) {
+            this.items = items;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= MIN_PARALLEL_SORT_GRANULARITY) {
+                Arrays.sort(items, lo, hi, c);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new MergeSortTask<>(items, buffer, lo, mid, c),
+                    new MergeSortTask<>(items, buffer, mid, hi, c));
+            merge(mid);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void merge(int mid) {
+            // 已经有序，无需归并
+            if (c.compare(items[mid - 1], items[mid]) <= 0) {
+                return;
+            }
+            // 左半部分 [lo, mid) 复制到 buffer 中与子区间对应的位置，互不重叠
+            int base = lo / 2;
+            int leftLength = mid - lo;
+            System.arraycopy(items, lo, buffer, base, leftLength);
+            int i = base;
+            int leftEnd = base + leftLength;
+            int j = mid;
+            int k = lo;
+            while (i < leftEnd && j < hi) {
+                // 相等时先取左边，保证稳定
+                if (c.compare(items[j], (T) buffer[i]) < 0) {
+                    items[k++] = items[j++];
+                } else {
+                    items[k++] = (T) buffer[i++];
+                }
+            }
+            System.arraycopy(buffer, i, items, k, leftEnd - i);
+        }
     }
 
     private class ArrayListIterator implements Iterator<T> {
 
         private int current = 0;
+        private int expectedModCount = modCount;
+        private boolean okToRemove = false;
 
         @Override
         public boolean hasNext() {
@@ -126,15 +366,95 @@ public class MyArrayList<T> implements Iterable<T> {
 
         @Override
         public T next() {
+            checkForComodification();
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            okToRemove = true;
             return theItems[current++];
         }
 
         @Override
         public void remove() {
+            checkForComodification();
+            if (!okToRemove) {
+                throw new IllegalStateException();
+            }
             MyArrayList.this.remove(--current);
+            expectedModCount = modCount;
+            okToRemove = false;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * 覆盖 [index, fence) 的分割器。创建时记录 modCount，遍历时发现表的结构被修改则抛出异常
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            // 前一半交给新的分割器，自己保留后一半
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            T item = theItems[index++];
+            action.accept(item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] items = theItems;
+            if (fence > items.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < fence; i++) {
+                action.accept(items[i]);
+            }
+            index = fence;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 }
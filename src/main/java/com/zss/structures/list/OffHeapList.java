@@ -0,0 +1,279 @@
+package com.zss.structures.list;
+
+import com.zss.structures.codec.KeyCodec;
+import com.zss.structures.list.inter.MyList;
+
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 17:40
+ * @desc 堆外表 -- 定长记录保存在直接内存(direct ByteBuffer)中
+ * 记录由 KeyCodec 编解码，按块存放：每块容纳 2^k 条记录，定位时只需移位和掩码。
+ * 扩容时只分配新的块，已有的数据从不复制；数据不在堆上，GC 不需要扫描它们，停顿时间与表的大小无关。
+ * 直接内存不受 GC 管理，用完后必须调用 close() 立即释放。
+ * 只支持在尾部追加和删除，在中间插入会让后续所有记录跨块移动，与分块的初衷相违背。
+ */
+@SuppressWarnings("unused")
+public class OffHeapList<T> implements MyList<T>, Iterable<T>, Closeable {
+
+    /**
+     * 默认每块 4MB
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+    private final KeyCodec<T> codec;
+    private final int recordSize;
+    /**
+     * 每块的记录数 = 1 << chunkShift
+     */
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int theSize;
+
+    public OffHeapList(KeyCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param codec     记录的编解码器
+     * @param chunkSize 每块的字节数，实际使用时向下取整到记录大小的 2^k 倍
+     */
+    public OffHeapList(KeyCodec<T> codec, int chunkSize) {
+        if (codec.width() <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Illegal record size or chunk size");
+        }
+        this.codec = codec;
+        this.recordSize = codec.width();
+        int recordsPerChunk = Integer.highestOneBit(Math.max(1, chunkSize / recordSize));
+        this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        this.chunkMask = recordsPerChunk - 1;
+        this.chunks = new ByteBuffer[4];
+    }
+
+    /**
+     * 清空并释放所有块
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        releaseChunks(0);
+        theSize = 0;
+    }
+
+    @Override
+    public int size() {
+        return theSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 释放尾部没有记录的块
+     */
+    @Override
+    public void trimToSize() {
+        checkOpen();
+        releaseChunks(chunksFor(theSize));
+    }
+
+    @Override
+    public T get(int idx) {
+        checkOpen();
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        return codec.read(chunks[idx >>> chunkShift], (idx & chunkMask) * recordSize);
+    }
+
+    @Override
+    public T set(int idx, T newVal) {
+        checkOpen();
+        if (idx < 0 || idx >= size()) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        ByteBuffer chunk = chunks[idx >>> chunkShift];
+        int offset = (idx & chunkMask) * recordSize;
+        T old = codec.read(chunk, offset);
+        codec.write(chunk, offset, newVal);
+        return old;
+    }
+
+    /**
+     * 在尾部追加
+     *
+     * @param x 记录
+     * @return true
+     */
+    public boolean add(T x) {
+        checkOpen();
+        if (theSize == capacity()) {
+            ensureCapacity(theSize + 1);
+        }
+        int idx = theSize;
+        codec.write(chunks[idx >>> chunkShift], (idx & chunkMask) * recordSize, x);
+        theSize++;
+        return true;
+    }
+
+    /**
+     * 删除尾部的记录，块不会被释放，需要时调用 trimToSize
+     *
+     * @return 被删除的记录
+     */
+    public T removeLast() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        T last = get(theSize - 1);
+        theSize--;
+        return last;
+    }
+
+    /**
+     * 分配新的块直到容量不小于 newCapacity，已有的块保持不动。只增不减，释放请用 trimToSize
+     *
+     * @param newCapacity 新的边界
+     */
+    @Override
+    public void ensureCapacity(int newCapacity) {
+        checkOpen();
+        if (newCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity too large");
+        }
+        int needed = chunksFor(newCapacity);
+        if (needed > chunks.length) {
+            // 只复制块的引用
+            chunks = Arrays.copyOf(chunks, Math.max(needed, chunks.length * 2));
+        }
+        while (chunkCount < needed) {
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(recordSize << chunkShift).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * 当前已分配的容量
+     *
+     * @return 记录数
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * 立即释放所有直接内存，之后除 size/isEmpty/capacity/close 外的操作都会抛出 IllegalStateException
+     */
+    @Override
+    public void close() {
+        if (chunks == null) {
+            return;
+        }
+        releaseChunks(0);
+        chunks = null;
+        theSize = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new OffHeapIterator();
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    /**
+     * 容纳 n 条记录需要的块数
+     */
+    private int chunksFor(int n) {
+        return (int) (((long) n + chunkMask) >>> chunkShift);
+    }
+
+    /**
+     * 释放下标不小于 from 的块
+     */
+    private void releaseChunks(int from) {
+        for (int i = from; i < chunkCount; i++) {
+            free(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = Math.min(chunkCount, from);
+    }
+
+    private void checkOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * 立即释放直接内存。JDK 9+ 使用 Unsafe.invokeCleaner，JDK 8 调用 DirectBuffer 的 cleaner；
+     * 都不可用时什么也不做，内存在缓冲区被回收时释放
+     */
+    private static void free(ByteBuffer buffer) {
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleaner = buffer.getClass().getMethod("cleaner");
+                cleaner.setAccessible(true);
+                Object c = cleaner.invoke(buffer);
+                if (c != null) {
+                    c.getClass().getMethod("clean").invoke(c);
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // 交给 GC
+        }
+    }
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // JDK 8
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private class OffHeapIterator implements Iterator<T> {
+
+        private int current = 0;
+
+        @Override
+        public boolean hasNext() {
+            return current < size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(current++);
+        }
+    }
+}
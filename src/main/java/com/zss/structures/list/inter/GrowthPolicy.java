@@ -0,0 +1,42 @@
+package com.zss.structures.list.inter;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 15:20
+ * @desc 扩容策略: 数组已满时决定新的容量
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * 计算新的容量。返回值小于 minCapacity 时以 minCapacity 为准
+     *
+     * @param oldCapacity 当前容量
+     * @param minCapacity 至少需要的容量
+     * @return 新的容量
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * 翻倍: old * 2 + 1，MyArrayList 的默认策略
+     */
+    GrowthPolicy DOUBLING = (oldCapacity, minCapacity) -> oldCapacity * 2 + 1;
+
+    /**
+     * 1.5 倍: 与 java.util.ArrayList 相同，浪费的空间更少
+     */
+    GrowthPolicy ONE_AND_HALF = (oldCapacity, minCapacity) -> oldCapacity + (oldCapacity >> 1) + 1;
+
+    /**
+     * 每次增加固定的数量，适合大小可预估、内存紧张的场景
+     *
+     * @param increment 增量
+     * @return 扩容策略
+     */
+    static GrowthPolicy increment(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal increment: " + increment);
+        }
+        return (oldCapacity, minCapacity) -> oldCapacity + increment;
+    }
+}
@@ -0,0 +1,351 @@
+package com.zss.structures.other;
+
+import com.zss.structures.list.IntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 18:00
+ * @desc 只有一个字母不同的单词 -- 邻接表
+ * 算法与 FindWordInOneDifferTest.computeAdjacentWordsV3 相同：按长度分组，对每个组的每个位置，
+ * 把去掉该位置字母后相同的单词放进同一个桶，同一个桶中的单词两两相邻。
+ * 不同之处：
+ * ---- 每个单词有一个 int 编号(首次出现的顺序)，邻接关系保存为 CSR 格式的两个 int 数组，而不是 String 列表
+ * ---- 桶使用 HashMap，键只是“单词 + 被去掉的位置”，不需要真的截出子串
+ * ---- 每个 (长度, 位置) 组合是一个独立的任务，由 ForkJoinPool 并行执行
+ * 两个相同长度的单词只有一个位置不同，所以它们只会在这一个位置的桶中相遇，邻接表中不会有重复项。
+ */
+@SuppressWarnings("unused")
+public final class AdjacentWords {
+
+    /**
+     * 对单词编号做排序等细粒度操作时，每个任务至少处理的单词数
+     */
+    private static final int MIN_GRANULARITY = 1 << 12;
+
+    private final String[] words;
+    private final Map<String, Integer> ids;
+    /**
+     * 第 i 个单词的邻居是 targets[offsets[i]] ~ targets[offsets[i + 1] - 1]，按编号升序
+     */
+    private final int[] offsets;
+    private final int[] targets;
+
+    private AdjacentWords(String[] words, Map<String, Integer> ids, int[] offsets, int[] targets) {
+        this.words = words;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * 使用公共的 ForkJoinPool 计算
+     *
+     * @param theWords 单词，重复的只保留第一个
+     * @return 邻接表
+     */
+    public static AdjacentWords compute(Collection<String> theWords) {
+        return compute(theWords, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 计算每个单词的邻居
+     *
+     * @param theWords 单词，重复的只保留第一个
+     * @param pool     执行任务的线程池
+     * @return 邻接表
+     */
+    public static AdjacentWords compute(Collection<String> theWords, ForkJoinPool pool) {
+        // 编号并按长度分组
+        Map<String, Integer> ids = new HashMap<>(theWords.size() * 4 / 3 + 1);
+        List<String> wordList = new ArrayList<>(theWords.size());
+        Map<Integer, IntArrayList> wordsByLength = new TreeMap<>();
+        for (String w : theWords) {
+            if (ids.putIfAbsent(w, wordList.size()) == null) {
+                wordsByLength.computeIfAbsent(w.length(), k -> new IntArrayList()).add(wordList.size());
+                wordList.add(w);
+            }
+        }
+        String[] words = wordList.toArray(new String[0]);
+        int n = words.length;
+
+        // 每个 (长度, 位置) 组合一个任务
+        List<BucketTask> tasks = new ArrayList<>();
+        for (Map.Entry<Integer, IntArrayList> entry : wordsByLength.entrySet()) {
+            int[] group = entry.getValue().toArray();
+            if (group.length < 2) {
+                continue;
+            }
+            for (int i = 0; i < entry.getKey(); i++) {
+                tasks.add(new BucketTask(words, group, i));
+            }
+        }
+
+        // 第一遍：分桶，同时统计每个单词的度
+        AtomicIntegerArray degree = new AtomicIntegerArray(n);
+        pool.invoke(new RangeAction(0, tasks.size(), 1, t -> tasks.get(t).run(degree)));
+
+        int[] offsets = new int[n + 1];
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            offsets[i] = (int) total;
+            total += degree.get(i);
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many adjacent pairs: " + total);
+            }
+        }
+        offsets[n] = (int) total;
+
+        // 第二遍：每个桶中的单词为自己在 targets 中预留位置，然后写入桶中的其他单词
+        int[] targets = new int[(int) total];
+        AtomicIntegerArray cursor = new AtomicIntegerArray(Arrays.copyOf(offsets, n));
+        pool.invoke(new RangeAction(0, tasks.size(), 1, t -> tasks.get(t).fill(cursor, targets)));
+
+        // 并行写入的顺序不确定，排序后结果与线程数无关
+        pool.invoke(new RangeAction(0, n, MIN_GRANULARITY, w -> Arrays.sort(targets, offsets[w], offsets[w + 1])));
+
+        return new AdjacentWords(words, ids, offsets, targets);
+    }
+
+    /**
+     * @return 单词个数(去重后)
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * @return 相邻的有序对个数，即每个单词的度之和
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @param id 单词编号
+     * @return 单词
+     */
+    public String word(int id) {
+        return words[id];
+    }
+
+    /**
+     * @param word 单词
+     * @return 单词编号，不存在返回 -1
+     */
+    public int id(String word) {
+        Integer id = ids.get(word);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @param id 单词编号
+     * @return 邻居个数
+     */
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * @param id 单词编号
+     * @return 邻居编号的副本，按编号升序
+     */
+    public int[] neighbors(int id) {
+        return Arrays.copyOfRange(targets, offsets[id], offsets[id + 1]);
+    }
+
+    /**
+     * CSR 偏移数组，长度为 size() + 1。返回的是内部数组，不要修改
+     *
+     * @return offsets
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * CSR 邻居数组，长度为 edgeCount()。返回的是内部数组，不要修改
+     *
+     * @return targets
+     */
+    public int[] targets() {
+        return targets;
+    }
+
+    /**
+     * 转换成 computeAdjacentWordsV3 的结果格式：只包含有邻居的单词
+     *
+     * @return 单词 -> 邻居列表
+     */
+    public Map<String, List<String>> toMap() {
+        Map<String, List<String>> adjWords = new TreeMap<>();
+        for (int w = 0; w < words.length; w++) {
+            if (degree(w) == 0) {
+                continue;
+            }
+            List<String> list = new ArrayList<>(degree(w));
+            for (int k = offsets[w]; k < offsets[w + 1]; k++) {
+                list.add(words[targets[k]]);
+            }
+            adjWords.put(words[w], list);
+        }
+        return adjWords;
+    }
+
+    // ================= 私有类 ==================== //
+
+    /**
+     * 一个长度组中去掉第 skip 个字母后的分桶。
+     * 只保留大小至少为 2 的桶，连续存放在 members 中，bucketEnds 记录每个桶的结束位置
+     */
+    private static final class BucketTask {
+        final String[] words;
+        final int[] group;
+        final int skip;
+
+        IntArrayList members;
+        IntArrayList bucketEnds;
+
+        BucketTask(String[] words, int[] group, int skip) {
+            this.words = words;
+            this.group = group;
+            this.skip = skip;
+        }
+
+        void run(AtomicIntegerArray degree) {
+            // 同一个桶中的单词通过 next 串成链表，链表头和桶的大小保存在键对象里
+            Map<SkippedKey, SkippedKey> buckets = new HashMap<>(group.length * 4 / 3 + 1);
+            int[] next = new int[group.length];
+            for (int i = 0; i < group.length; i++) {
+                SkippedKey key = new SkippedKey(words[group[i]], skip, i);
+                SkippedKey bucket = buckets.putIfAbsent(key, key);
+                if (bucket != null) {
+                    next[i] = bucket.head;
+                    bucket.head = i;
+                    bucket.count++;
+                } else {
+                    next[i] = -1;
+                }
+            }
+
+            members = new IntArrayList();
+            bucketEnds = new IntArrayList();
+            for (SkippedKey bucket : buckets.values()) {
+                if (bucket.count < 2) {
+                    continue;
+                }
+                for (int i = bucket.head; i != -1; i = next[i]) {
+                    members.add(group[i]);
+                    degree.getAndAdd(group[i], bucket.count - 1);
+                }
+                bucketEnds.add(members.size());
+            }
+        }
+
+        void fill(AtomicIntegerArray cursor, int[] targets) {
+            int start = 0;
+            for (int b = 0; b < bucketEnds.size(); b++) {
+                int end = bucketEnds.get(b);
+                for (int i = start; i < end; i++) {
+                    int w = members.get(i);
+                    int pos = cursor.getAndAdd(w, end - start - 1);
+                    for (int j = start; j < end; j++) {
+                        if (j != i) {
+                            targets[pos++] = members.get(j);
+                        }
+                    }
+                }
+                start = end;
+            }
+            members = null;
+            bucketEnds = null;
+        }
+    }
+
+    /**
+     * 桶的键：单词去掉第 skip 个字母后的部分，比较时直接跳过该字母
+     */
+    private static final class SkippedKey {
+        final String word;
+        final int skip;
+        final int hash;
+
+        int head;
+        int count = 1;
+
+        SkippedKey(String word, int skip, int head) {
+            this.word = word;
+            this.skip = skip;
+            this.head = head;
+            int h = 0;
+            for (int i = 0; i < word.length(); i++) {
+                if (i != skip) {
+                    h = 31 * h + word.charAt(i);
+                }
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SkippedKey)) {
+                return false;
+            }
+            SkippedKey other = (SkippedKey) obj;
+            // 同一个任务中的单词长度相同，skip 也相同
+            return hash == other.hash
+                    && word.regionMatches(0, other.word, 0, skip)
+                    && word.regionMatches(skip + 1, other.word, skip + 1, word.length() - skip - 1);
+        }
+    }
+
+    /**
+     * 把 [lo, hi) 二分成子任务，直到不超过 granularity 个
+     */
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final int granularity;
+        private final IntConsumer body;
+
+        RangeAction(int lo, int hi, int granularity, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.granularity = granularity;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= granularity) {
+                for (int i = lo; i < hi; i++) {
+                    body.accept(i);
+                }
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new RangeAction(lo, mid, granularity, body), new RangeAction(mid, hi, granularity, body));
+            }
+        }
+    }
+}
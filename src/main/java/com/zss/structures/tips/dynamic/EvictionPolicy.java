@@ -0,0 +1,36 @@
+package com.zss.structures.tips.dynamic;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 09:30
+ * @desc 备忘录表满了之后的淘汰策略
+ */
+public enum EvictionPolicy {
+
+    /**
+     * 最近最少使用: 淘汰最久没有被访问的项，适合访问有时间局部性的场景
+     */
+    LRU {
+        @Override
+        EvictionQueue newQueue() {
+            return new EvictionQueue.LruQueue();
+        }
+    },
+
+    /**
+     * 最不经常使用: 淘汰命中次数最少的项(次数相同时淘汰最久没有被访问的)，适合少数子问题被反复查询的场景
+     */
+    LFU {
+        @Override
+        EvictionQueue newQueue() {
+            return new EvictionQueue.LfuQueue();
+        }
+    };
+
+    /**
+     * 为一个分段创建淘汰顺序
+     *
+     * @return queue
+     */
+    abstract EvictionQueue newQueue();
+}
@@ -0,0 +1,178 @@
+package com.zss.structures.tips.dynamic;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 09:40
+ * @desc 一个分段内各项的淘汰顺序，所有操作都是 O(1)。不是线程安全的，由分段的锁保护
+ */
+abstract class EvictionQueue {
+
+    /**
+     * 新加入一项
+     */
+    abstract void add(MemoEntry e);
+
+    /**
+     * 一项被命中
+     */
+    abstract void touch(MemoEntry e);
+
+    /**
+     * 移除一项
+     */
+    abstract void remove(MemoEntry e);
+
+    /**
+     * 下一个应该被淘汰的项，空时返回 null
+     */
+    abstract MemoEntry victim();
+
+    /**
+     * 清空
+     */
+    abstract void clear();
+
+    /**
+     * 把 e 链入 head 之后(带哨兵的循环双向链表)
+     */
+    static void linkFirst(MemoEntry head, MemoEntry e) {
+        e.before = head;
+        e.after = head.after;
+        head.after.before = e;
+        head.after = e;
+    }
+
+    static void unlink(MemoEntry e) {
+        e.before.after = e.after;
+        e.after.before = e.before;
+        e.before = e.after = null;
+    }
+
+    static MemoEntry newList() {
+        MemoEntry head = new MemoEntry();
+        head.before = head.after = head;
+        return head;
+    }
+
+    /**
+     * LRU: 一条链表，命中的项移到表头，淘汰表尾
+     */
+    static final class LruQueue extends EvictionQueue {
+
+        private final MemoEntry head = newList();
+
+        @Override
+        void add(MemoEntry e) {
+            linkFirst(head, e);
+        }
+
+        @Override
+        void touch(MemoEntry e) {
+            if (head.after != e) {
+                unlink(e);
+                linkFirst(head, e);
+            }
+        }
+
+        @Override
+        void remove(MemoEntry e) {
+            unlink(e);
+        }
+
+        @Override
+        MemoEntry victim() {
+            return head.before == head ? null : head.before;
+        }
+
+        @Override
+        void clear() {
+            head.before = head.after = head;
+        }
+    }
+
+    /**
+     * LFU: 频次桶按频次升序组成链表，每个桶内部是一条 LRU 链表。
+     * 命中时项移入频次加一的桶(没有则在当前桶之后新建)，淘汰频次最低的桶中最久没有被访问的项
+     */
+    static final class LfuQueue extends EvictionQueue {
+
+        static final class Bucket {
+            long frequency;
+            Bucket prev;
+            Bucket next;
+            final MemoEntry entries = newList();
+
+            boolean isEmpty() {
+                return entries.after == entries;
+            }
+        }
+
+        private final Bucket head;
+
+        LfuQueue() {
+            head = new Bucket();
+            head.prev = head.next = head;
+        }
+
+        @Override
+        void add(MemoEntry e) {
+            Bucket b = head.next;
+            if (b == head || b.frequency != 1) {
+                b = insertAfter(head, 1);
+            }
+            e.bucket = b;
+            linkFirst(b.entries, e);
+        }
+
+        @Override
+        void touch(MemoEntry e) {
+            Bucket b = e.bucket;
+            Bucket n = b.next;
+            if (n == head || n.frequency != b.frequency + 1) {
+                n = insertAfter(b, b.frequency + 1);
+            }
+            unlink(e);
+            e.bucket = n;
+            linkFirst(n.entries, e);
+            if (b.isEmpty()) {
+                removeBucket(b);
+            }
+        }
+
+        @Override
+        void remove(MemoEntry e) {
+            Bucket b = e.bucket;
+            unlink(e);
+            e.bucket = null;
+            if (b.isEmpty()) {
+                removeBucket(b);
+            }
+        }
+
+        @Override
+        MemoEntry victim() {
+            Bucket b = head.next;
+            return b == head ? null : b.entries.before;
+        }
+
+        @Override
+        void clear() {
+            head.prev = head.next = head;
+        }
+
+        private Bucket insertAfter(Bucket b, long frequency) {
+            Bucket n = new Bucket();
+            n.frequency = frequency;
+            n.prev = b;
+            n.next = b.next;
+            b.next.prev = n;
+            b.next = n;
+            return n;
+        }
+
+        private void removeBucket(Bucket b) {
+            b.prev.next = b.next;
+            b.next.prev = b.prev;
+        }
+    }
+}
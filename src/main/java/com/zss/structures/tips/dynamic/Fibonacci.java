@@ -1,13 +1,31 @@
 package com.zss.structures.tips.dynamic;
 
+import java.math.BigInteger;
+
 /**
  * @author ZSS
  * @date 2022/6/29 10:20
  * @desc 斐波那契数
  * example: 1，1，2，3，5，8，13，21，34，55，89...
+ * 本类中的第 n 项从 0 开始计数，第0项和第1项都是1，即第 n 项等于标准定义中的 F(n+1)
  */
 public class Fibonacci {
 
+    /**
+     * long 能表示的最大项: F(92) = 7540113804746346429
+     */
+    public static final int MAX_LONG_TERM = 91;
+
+    /**
+     * 备忘录的容量。每次查询只会新增 O(log N) 个子问题
+     */
+    private static final int CACHE_SIZE = 4096;
+
+    /**
+     * 已经计算过的子问题，键是标准定义下的下标 m，值是 F(m)
+     */
+    private static final IntMemoTable<BigInteger> CACHE = new IntMemoTable<>(CACHE_SIZE, EvictionPolicy.LRU);
+
     public static void main(String[] args) {
         int fib = fib(9);
         System.out.println(fib);
@@ -48,4 +66,199 @@ public class Fibonacci {
         }
         return answer;
     }
+
+    /**
+     * 计算斐波那契数 -- 快速倍增 -- O(log N)
+     * F(2k) = F(k) * (2F(k+1) - F(k))
+     * F(2k+1) = F(k)^2 + F(k+1)^2
+     * 从最高位开始，每一位把 (F(k), F(k+1)) 翻倍，该位为1时再前进一步
+     *
+     * @param n 第n项，0 <= n <= MAX_LONG_TERM
+     * @return 第n项值
+     */
+    public static long fibonacciLong(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        if (n > MAX_LONG_TERM) {
+            throw new ArithmeticException("Term " + n + " overflows long, use fibonacciBig");
+        }
+        return fibonacciPair(n + 1)[0];
+    }
+
+    /**
+     * 计算斐波那契数 -- 快速倍增 -- O(log N) 次大数乘法
+     *
+     * @param n 第n项，0 <= n < Integer.MAX_VALUE
+     * @return 第n项值
+     */
+    public static BigInteger fibonacciBig(int n) {
+        checkTerm(n);
+        return fibonacciBigPair(n + 1)[0];
+    }
+
+    /**
+     * 带备忘录的快速倍增，可被多个线程同时调用；适合反复查询同一批项或相近的项。
+     * 递归地由 F(k)、F(k+1) 求出 F(2k) 或 F(2k+1)，每个子问题的解都记在有界的备忘录中，
+     * 相近的 n 共享大部分子问题
+     *
+     * @param n 第n项，0 <= n < Integer.MAX_VALUE
+     * @return 第n项值
+     */
+    public static BigInteger fibonacciCached(int n) {
+        checkTerm(n);
+        return memoized(n + 1);
+    }
+
+    /**
+     * 备忘录的命中统计
+     *
+     * @return stats
+     */
+    public static MemoStats cacheStats() {
+        return CACHE.stats();
+    }
+
+    /**
+     * 一次计算连续的多项: 用快速倍增定位到起点，之后逐项相加 -- O(log from + (to - from))
+     *
+     * @param from 起始项(包含)
+     * @param to   结束项(不包含)，不超过 MAX_LONG_TERM + 1
+     * @return 第 from 到 to - 1 项
+     */
+    public static long[] fibonacciRange(int from, int to) {
+        checkRange(from, to);
+        if (to > MAX_LONG_TERM + 1) {
+            throw new ArithmeticException("Term " + (to - 1) + " overflows long, use fibonacciBigRange");
+        }
+        long[] terms = new long[to - from];
+        if (terms.length == 0) {
+            return terms;
+        }
+        long[] pair = fibonacciPair(from + 1);
+        long a = pair[0];
+        long b = pair[1];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = a;
+            long next = a + b;
+            a = b;
+            b = next;
+        }
+        return terms;
+    }
+
+    /**
+     * 一次计算连续的多项，大数版本
+     *
+     * @param from 起始项(包含)
+     * @param to   结束项(不包含)
+     * @return 第 from 到 to - 1 项
+     */
+    public static BigInteger[] fibonacciBigRange(int from, int to) {
+        checkRange(from, to);
+        BigInteger[] terms = new BigInteger[to - from];
+        if (terms.length == 0) {
+            return terms;
+        }
+        BigInteger[] pair = fibonacciBigPair(from + 1);
+        BigInteger a = pair[0];
+        BigInteger b = pair[1];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = a;
+            BigInteger next = a.add(b);
+            a = b;
+            b = next;
+        }
+        return terms;
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    /**
+     * 标准定义下的 F(m)，经过备忘录
+     */
+    private static BigInteger memoized(int m) {
+        if (m <= 2) {
+            return m == 0 ? BigInteger.ZERO : BigInteger.ONE;
+        }
+        return CACHE.get(m, Fibonacci::doubling);
+    }
+
+    /**
+     * 由 F(k)、F(k+1) 求 F(m)，m = 2k 或 2k+1
+     */
+    private static BigInteger doubling(int m) {
+        int k = m >>> 1;
+        BigInteger a = memoized(k);
+        BigInteger b = memoized(k + 1);
+        if ((m & 1) == 0) {
+            return a.multiply(b.shiftLeft(1).subtract(a));
+        } else {
+            return a.multiply(a).add(b.multiply(b));
+        }
+    }
+
+    /**
+     * 内部按标准定义计算第 n + 1 项，n 为 Integer.MAX_VALUE 时下标会溢出
+     */
+    private static void checkTerm(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        if (n == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("n must be less than Integer.MAX_VALUE: " + n);
+        }
+    }
+
+    private static void checkRange(int from, int to) {
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("Illegal range: [" + from + ", " + to + ")");
+        }
+    }
+
+    /**
+     * 标准定义下的 (F(m), F(m+1))。F(m+1) 可能溢出，但 long 运算是模 2^64 的，只要 F(m) 本身不溢出结果就是精确的
+     *
+     * @param m 标准定义下的下标
+     * @return {F(m), F(m+1)}
+     */
+    private static long[] fibonacciPair(int m) {
+        long a = 0;
+        long b = 1;
+        for (int bit = Integer.highestOneBit(m); bit != 0; bit >>>= 1) {
+            long c = a * (2 * b - a);
+            long d = a * a + b * b;
+            if ((m & bit) != 0) {
+                a = d;
+                b = c + d;
+            } else {
+                a = c;
+                b = d;
+            }
+        }
+        return new long[]{a, b};
+    }
+
+    /**
+     * 标准定义下的 (F(m), F(m+1))，大数版本
+     *
+     * @param m 标准定义下的下标
+     * @return {F(m), F(m+1)}
+     */
+    private static BigInteger[] fibonacciBigPair(int m) {
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = Integer.highestOneBit(m); bit != 0; bit >>>= 1) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+            if ((m & bit) != 0) {
+                a = d;
+                b = c.add(d);
+            } else {
+                a = c;
+                b = d;
+            }
+        }
+        return new BigInteger[]{a, b};
+    }
 }
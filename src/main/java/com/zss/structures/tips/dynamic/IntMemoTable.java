@@ -0,0 +1,77 @@
+package com.zss.structures.tips.dynamic;
+
+import java.util.function.IntFunction;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 10:40
+ * @desc 备忘录表 -- int 键特化版本，键扩展成 long 后交给 LongMemoTable，全程不装箱
+ *
+ * @param <V> 值，即子问题的解
+ */
+@SuppressWarnings("unused")
+public class IntMemoTable<V> {
+
+    private final LongMemoTable<V> table;
+
+    /**
+     * @param maxSize 最多保存的项数
+     * @param policy  淘汰策略
+     */
+    public IntMemoTable(int maxSize, EvictionPolicy policy) {
+        this.table = new LongMemoTable<>(maxSize, policy);
+    }
+
+    /**
+     * 取出 key 对应的解，没有则用 loader 计算并记住
+     *
+     * @param key    子问题的参数
+     * @param loader 计算函数，可以递归调用本表
+     * @return 解
+     */
+    public V get(int key, IntFunction<? extends V> loader) {
+        // 不经过 LongFunction 适配，避免每次调用都创建 lambda
+        V value = table.lookup(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        return value == null ? null : table.store(key, value);
+    }
+
+    /**
+     * 取出 key 对应的解，没有则返回 null。不计入统计
+     *
+     * @param key 子问题的参数
+     * @return 解或者 null
+     */
+    public V getIfPresent(int key) {
+        return table.getIfPresent(key);
+    }
+
+    /**
+     * 直接放入一个解，覆盖旧值
+     *
+     * @param key   子问题的参数
+     * @param value 解，不能为 null
+     */
+    public void put(int key, V value) {
+        table.put(key, value);
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public int maxSize() {
+        return table.maxSize();
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    public MemoStats stats() {
+        return table.stats();
+    }
+}
@@ -0,0 +1,258 @@
+package com.zss.structures.tips.dynamic;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 10:20
+ * @desc 备忘录表 -- long 键特化版本
+ * 与 MemoTable 相同，但键直接以 long 保存在自己的散列表中，查询时不装箱。
+ * 每个分段的容量固定，散列表在创建时就按容量分配，之后不再扩容。
+ *
+ * @param <V> 值，即子问题的解
+ */
+@SuppressWarnings("unused")
+public class LongMemoTable<V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 最多保存的项数
+     * @param policy  淘汰策略
+     */
+    @SuppressWarnings("unchecked")
+    public LongMemoTable(int maxSize, EvictionPolicy policy) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_CAPACITY)));
+        int capacity = (maxSize + count - 1) / count;
+        segments = (Segment[]) new LongMemoTable.Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity, policy.newQueue());
+        }
+        // 高位选分段，低位选槽位；只有一个分段时不使用高位
+        segmentShift = count == 1 ? 0 : 32 - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * 取出 key 对应的解，没有则用 loader 计算并记住
+     *
+     * @param key    子问题的参数
+     * @param loader 计算函数，可以递归调用本表
+     * @return 解
+     */
+    public V get(long key, LongFunction<? extends V> loader) {
+        V value = lookup(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        return value == null ? null : store(key, value);
+    }
+
+    /**
+     * 取出 key 对应的解，没有则返回 null。不计入统计
+     *
+     * @param key 子问题的参数
+     * @return 解或者 null
+     */
+    public V getIfPresent(long key) {
+        int h = hash(key);
+        return segmentFor(h).get(key, h);
+    }
+
+    /**
+     * 直接放入一个解，覆盖旧值
+     *
+     * @param key   子问题的参数
+     * @param value 解，不能为 null
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        int h = hash(key);
+        segmentFor(h).put(key, h, value);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment s : segments) {
+            size += s.size();
+        }
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        for (Segment s : segments) {
+            s.clear();
+        }
+    }
+
+    public MemoStats stats() {
+        return new MemoStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    /**
+     * get 的前半部分: 查找并计入统计
+     */
+    V lookup(long key) {
+        int h = hash(key);
+        V value = segmentFor(h).get(key, h);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * get 的后半部分: 放入计算结果；其他线程已经放入时返回已有的值
+     */
+    V store(long key, V value) {
+        int h = hash(key);
+        return segmentFor(h).putIfAbsent(key, h, value);
+    }
+
+    /**
+     * 64 位混合函数(MurmurHash3 fmix64)，取低 32 位：最后一步已经把高位异或到了低位
+     */
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private Segment segmentFor(int h) {
+        return segments[segmentShift == 0 ? 0 : h >>> segmentShift];
+    }
+
+    private static final class Entry extends MemoEntry {
+        final long key;
+        final int hash;
+        Entry next;
+
+        Entry(long key, int hash, Object value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    private final class Segment {
+        private final Entry[] table;
+        private final EvictionQueue queue;
+        private final int capacity;
+        private int size;
+
+        Segment(int capacity, EvictionQueue queue) {
+            this.capacity = capacity;
+            this.queue = queue;
+            // 负载因子不超过 0.75
+            this.table = new Entry[Integer.highestOneBit(Math.max(1, capacity * 4 / 3)) << 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V get(long key, int h) {
+            Entry e = find(key, h);
+            if (e == null) {
+                return null;
+            }
+            queue.touch(e);
+            return (V) e.value;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V putIfAbsent(long key, int h, V value) {
+            Entry e = find(key, h);
+            if (e != null) {
+                return (V) e.value;
+            }
+            insert(key, h, value);
+            return value;
+        }
+
+        synchronized void put(long key, int h, V value) {
+            Entry e = find(key, h);
+            if (e != null) {
+                e.value = value;
+                queue.touch(e);
+            } else {
+                insert(key, h, value);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(table, null);
+            queue.clear();
+            size = 0;
+        }
+
+        private Entry find(long key, int h) {
+            for (Entry e = table[h & (table.length - 1)]; e != null; e = e.next) {
+                if (e.key == key) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        private void insert(long key, int h, V value) {
+            if (size >= capacity) {
+                Entry victim = (Entry) queue.victim();
+                queue.remove(victim);
+                unlinkFromTable(victim);
+                size--;
+                evictions.increment();
+            }
+            Entry e = new Entry(key, h, value);
+            int idx = h & (table.length - 1);
+            e.next = table[idx];
+            table[idx] = e;
+            queue.add(e);
+            size++;
+        }
+
+        private void unlinkFromTable(Entry victim) {
+            int idx = victim.hash & (table.length - 1);
+            Entry prev = null;
+            for (Entry e = table[idx]; e != null; prev = e, e = e.next) {
+                if (e == victim) {
+                    if (prev == null) {
+                        table[idx] = e.next;
+                    } else {
+                        prev.next = e.next;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.zss.structures.tips.dynamic;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 09:35
+ * @desc 备忘录表中的一项。键由子类保存，这里只有值和 EvictionQueue 使用的链接
+ */
+class MemoEntry {
+
+    Object value;
+    /**
+     * 淘汰顺序中的前驱和后继
+     */
+    MemoEntry before;
+    MemoEntry after;
+    /**
+     * LFU 中所在的频次桶
+     */
+    EvictionQueue.LfuQueue.Bucket bucket;
+}
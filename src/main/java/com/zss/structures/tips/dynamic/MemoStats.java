@@ -0,0 +1,51 @@
+package com.zss.structures.tips.dynamic;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 09:50
+ * @desc 备忘录表的命中统计(某一时刻的快照)
+ */
+public final class MemoStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    MemoStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 命中率，没有请求时为 1
+     *
+     * @return [0, 1]
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoStats{hit=" + hitCount + ", miss=" + missCount + ", eviction=" + evictionCount
+                + ", hitRate=" + String.format("%.4f", hitRate()) + "}";
+    }
+}
@@ -0,0 +1,197 @@
+package com.zss.structures.tips.dynamic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 10:00
+ * @desc 备忘录表 -- 有界、线程安全，用于记住子问题的解
+ * 表被分成若干分段，每个分段有自己的锁、散列表和淘汰顺序，不同分段上的操作互不阻塞。
+ * 未命中时在锁外计算，所以计算函数可以递归地查询同一张表(ConcurrentHashMap.computeIfAbsent 不允许这样做)；
+ * 代价是多个线程同时未命中同一个键时可能重复计算，但表中只保留先放入的结果。
+ * 容量按分段均分，实际上限可能略大于 maxSize(不超过分段数)。
+ * 不保存 null 值：计算结果为 null 时直接返回，下次仍然重新计算。
+ *
+ * @param <K> 键，即子问题的参数
+ * @param <V> 值，即子问题的解
+ */
+@SuppressWarnings("unused")
+public class MemoTable<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 最多保存的项数
+     * @param policy  淘汰策略
+     */
+    @SuppressWarnings("unchecked")
+    public MemoTable(int maxSize, EvictionPolicy policy) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_CAPACITY)));
+        int capacity = (maxSize + count - 1) / count;
+        segments = (Segment[]) new MemoTable.Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity, policy.newQueue());
+        }
+        segmentMask = count - 1;
+    }
+
+    /**
+     * 取出 key 对应的解，没有则用 loader 计算并记住
+     *
+     * @param key    子问题的参数
+     * @param loader 计算函数，可以递归调用本表
+     * @return 解
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment s = segmentFor(key);
+        V value = s.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = loader.apply(key);
+        return value == null ? null : s.putIfAbsent(key, value);
+    }
+
+    /**
+     * 取出 key 对应的解，没有则返回 null。不计入统计
+     *
+     * @param key 子问题的参数
+     * @return 解或者 null
+     */
+    public V getIfPresent(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * 直接放入一个解，覆盖旧值
+     *
+     * @param key   子问题的参数
+     * @param value 解，不能为 null
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        segmentFor(key).put(key, value);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment s : segments) {
+            size += s.size();
+        }
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        for (Segment s : segments) {
+            s.clear();
+        }
+    }
+
+    public MemoStats stats() {
+        return new MemoStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    private Segment segmentFor(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h ^ (h >>> 16)) & segmentMask];
+    }
+
+    private static final class Entry<K> extends MemoEntry {
+        final K key;
+
+        Entry(K key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final class Segment {
+        private final Map<K, Entry<K>> map;
+        private final EvictionQueue queue;
+        private final int capacity;
+
+        Segment(int capacity, EvictionQueue queue) {
+            this.capacity = capacity;
+            this.queue = queue;
+            this.map = new HashMap<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V get(K key) {
+            Entry<K> e = map.get(key);
+            if (e == null) {
+                return null;
+            }
+            queue.touch(e);
+            return (V) e.value;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V putIfAbsent(K key, V value) {
+            Entry<K> e = map.get(key);
+            if (e != null) {
+                return (V) e.value;
+            }
+            insert(key, value);
+            return value;
+        }
+
+        synchronized void put(K key, V value) {
+            Entry<K> e = map.get(key);
+            if (e != null) {
+                e.value = value;
+                queue.touch(e);
+            } else {
+                insert(key, value);
+            }
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized void clear() {
+            map.clear();
+            queue.clear();
+        }
+
+        private void insert(K key, V value) {
+            if (map.size() >= capacity) {
+                @SuppressWarnings("unchecked")
+                Entry<K> victim = (Entry<K>) queue.victim();
+                queue.remove(victim);
+                map.remove(victim.key);
+                evictions.increment();
+            }
+            Entry<K> e = new Entry<>(key, value);
+            map.put(key, e);
+            queue.add(e);
+        }
+    }
+}
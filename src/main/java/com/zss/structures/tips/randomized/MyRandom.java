@@ -15,7 +15,17 @@ public class MyRandom {
     private int state;
 
     public MyRandom(){
-        state = (int) (System.currentTimeMillis() % Integer.MAX_VALUE);
+        this((int) (System.currentTimeMillis() % Integer.MAX_VALUE));
+    }
+
+    /**
+     * @param seed 种子，映射到 [1, M - 1]；0 不是合法的状态
+     */
+    public MyRandom(int seed) {
+        state = (int) Math.floorMod((long) seed, (long) M);
+        if (state == 0) {
+            state = 1;
+        }
     }
 
     /**
@@ -4,44 +4,142 @@ package com.zss.structures.tips.randomized;
  * @author ZSS
  * @date 2022/6/29 11:16
  * @desc 48比特随机数发生器
+ * 线性同余: state = (A * state + C) mod 2^48，与 java.util.Random 的参数相同。
+ * 状态必须完整地保存在 long 中，只保存低 32 位会让周期和输出质量都大打折扣
  */
-public class Random48 {
+public class Random48 implements SplittableGenerator {
 
     private static final long A = 25_214_903_917L;
     private static final long B = 48;
     private static final long C = 11;
     private static final long M = (1L << B);
     private static final long MASK = M - 1;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
 
-    private int state;
+    private long state;
 
     public Random48 (){
-        state = (int) (System.nanoTime() & MASK);
+        state = System.nanoTime() & MASK;
     }
 
+    /**
+     * @param seed 种子，只使用低 48 位。new Random48(s) 与 new java.util.Random(s ^ 0x5DEECE66DL) 的序列相同
+     */
+    public Random48(long seed) {
+        state = seed & MASK;
+    }
+
+    /**
+     * 与 nextInt() 相同
+     *
+     * @return 均匀分布的 32 位整数
+     */
     public int randomInt(){
-        try {
-            return next(32);
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
-        return -1;
+        return nextInt();
     }
 
+    /**
+     * 与 nextDouble() 相同
+     *
+     * @return [0, 1) 上均匀分布的 double
+     */
     public double randomDouble(){
-        try {
-            return (((long)(next(26)) << 27 ) + next(27) / (double) (1L << 53));
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+        return nextDouble();
+    }
+
+    @Override
+    public int nextInt() {
+        return next(32);
+    }
+
+    /**
+     * [0, bound) 上均匀分布的整数。
+     * bound 是 2 的幂时直接取高位；否则取 31 位随机数对 bound 取模，
+     * 落在最后一段不完整的区间里的值会使结果偏向较小的数，需要拒绝后重新生成(最多一半的概率)
+     *
+     * @param bound 上界(不包含)，必须为正
+     * @return [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        if ((bound & -bound) == bound) {
+            return (int) ((bound * (long) next(31)) >> 31);
+        }
+        int bits;
+        int val;
+        do {
+            bits = next(31);
+            val = bits % bound;
+            // bits - val 是 bits 所在区间的起点，起点加上 bound - 1 溢出说明这一段不完整
+        } while (bits - val + (bound - 1) < 0);
+        return val;
+    }
+
+    @Override
+    public long nextLong() {
+        return ((long) next(32) << 32) + next(32);
+    }
+
+    /**
+     * 高 26 位和低 27 位拼成 53 位的整数，再乘以 2^-53。
+     * 原来的 randomDouble 写成了 (hi << 27) + lo / 2^53，除法优先于加法，结果是一个巨大的数
+     */
+    @Override
+    public double nextDouble() {
+        return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+    }
+
+    /**
+     * 用当前序列经过混合后的值作为新发生器的种子。
+     * 线性同余发生器无法真正分割，子序列之间只是大概率不重叠；对独立性要求高时使用 SplitMixGenerator
+     */
+    @Override
+    public Random48 split() {
+        return new Random48(SplitMixGenerator.mix64(nextLong()));
+    }
+
+    /**
+     * 跳跃: n 步线性同余的复合仍然是线性同余 state = (A' * state + C') mod 2^48，
+     * 用倍增在 O(log n) 内求出 A' 和 C'
+     */
+    @Override
+    public void jump(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("steps must not be negative: " + steps);
+        }
+        long accMult = 1;
+        long accPlus = 0;
+        long curMult = A;
+        long curPlus = C;
+        // long 的乘法是模 2^64 的，最后截取低 48 位即可
+        for (long n = steps; n != 0; n >>>= 1) {
+            if ((n & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus *= curMult + 1;
+            curMult *= curMult;
         }
-        return 0.00;
+        state = (accMult * state + accPlus) & MASK;
     }
 
-    private int next(int bits) throws IllegalAccessException {
-        if (bits <= 0 || bits > 32){
-            throw new IllegalAccessException();
+    @Override
+    public void nextInts(int[] values) {
+        long s = state;
+        for (int i = 0; i < values.length; i++) {
+            s = (A * s + C) & MASK;
+            values[i] = (int) (s >>> 16);
         }
-        state = (int) ((A * state + C) & MASK);
+        state = s;
+    }
+
+    /**
+     * 推进一步，返回状态的高 bits 位，1 <= bits <= 32。只在内部以常量调用，不做检查
+     */
+    private int next(int bits) {
+        state = (A * state + C) & MASK;
         return (int) (state >>> (B - bits));
     }
 }
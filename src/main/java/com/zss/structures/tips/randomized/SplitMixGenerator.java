@@ -0,0 +1,110 @@
+package com.zss.structures.tips.randomized;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 14:10
+ * @desc SplitMix64 随机数发生器
+ * 状态每次加上一个奇数 gamma，再经过混合函数输出，周期 2^64。
+ * 分割时用当前序列生成新的种子和新的 gamma，子发生器与父发生器的序列在统计上相互独立，
+ * 适合作为并行计算中每个任务的发生器。算法与 java.util.SplittableRandom 相同
+ */
+public class SplitMixGenerator implements SplittableGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private final long gamma;
+
+    public SplitMixGenerator() {
+        this(mix64(System.nanoTime()) ^ mix64(System.currentTimeMillis() + GOLDEN_GAMMA));
+    }
+
+    public SplitMixGenerator(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMixGenerator(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    @Override
+    public int nextInt() {
+        return mix32(seed += gamma);
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(seed += gamma);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (mix64(seed += gamma) >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public SplitMixGenerator split() {
+        long s = nextLong();
+        return new SplitMixGenerator(s, mixGamma(seed += gamma));
+    }
+
+    @Override
+    public void jump(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("steps must not be negative: " + steps);
+        }
+        seed += steps * gamma;
+    }
+
+    /**
+     * 状态保存在局部变量中，整个循环只在最后写回一次
+     */
+    @Override
+    public void nextInts(int[] values) {
+        long s = seed;
+        long g = gamma;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mix32(s += g);
+        }
+        seed = s;
+    }
+
+    @Override
+    public void nextDoubles(double[] values) {
+        long s = seed;
+        long g = gamma;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (mix64(s += g) >>> 11) * DOUBLE_UNIT;
+        }
+        seed = s;
+    }
+
+    // ====================== 内部方法 ====================== //
+
+    /**
+     * 64 位混合函数(Stafford variant 13)
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * 新的 gamma: 必须是奇数，并且二进制中 01/10 的交替足够多，否则输出的质量较差
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,68 @@
+package com.zss.structures.tips.randomized;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 14:00
+ * @desc 可分割的随机数发生器
+ * 发生器本身不是线程安全的。并行计算时，每个任务通过 split() 得到自己的发生器，
+ * 之后各自生成随机数，互不竞争；jump(n) 直接跳过 n 个随机数，用于把一个序列划分成互不重叠的子序列
+ */
+public interface SplittableGenerator {
+
+    /**
+     * 均匀分布的 32 位整数
+     *
+     * @return int
+     */
+    int nextInt();
+
+    /**
+     * 均匀分布的 64 位整数
+     *
+     * @return long
+     */
+    long nextLong();
+
+    /**
+     * [0, 1) 上均匀分布的 double，精度 53 位
+     *
+     * @return double
+     */
+    double nextDouble();
+
+    /**
+     * 分割出一个新的发生器，并推进本发生器的状态
+     *
+     * @return 新的发生器
+     */
+    SplittableGenerator split();
+
+    /**
+     * 跳过 steps 个随机数，等价于(但远快于)调用 steps 次 nextInt
+     *
+     * @param steps 跳过的个数，不能为负
+     */
+    void jump(long steps);
+
+    /**
+     * 用随机数填满数组
+     *
+     * @param values 目标
+     */
+    default void nextInts(int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextInt();
+        }
+    }
+
+    /**
+     * 用 [0, 1) 上的随机数填满数组
+     *
+     * @param values 目标
+     */
+    default void nextDoubles(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextDouble();
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tree.inter.Tree;
+
+import java.util.Arrays;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 15:20
+ * @desc 红黑树 -- 数组实现
+ * 节点不再是对象，而是一个 int 下标：左孩子、右孩子、颜色和数据项分别保存在平行数组中，
+ * 删除后空出的槽位通过空闲链表(复用 left 数组)回收。
+ * 0 号槽位是 nullNode，1 号槽位是 header，与 RedBlackTree 中的含义相同。
+ */
+@SuppressWarnings("unused")
+public class ArrayRedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
+
+    private static final byte BLACK = 1;
+    private static final byte RED = 0;
+
+    private static final int NULL_NODE = 0;
+    private static final int HEADER = 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int[] left;
+    private int[] right;
+    private byte[] color;
+
+    /**
+     * 下一个从未使用过的槽位
+     */
+    private int top;
+    /**
+     * 空闲链表头，NULL_NODE 表示空闲链表为空
+     */
+    private int free;
+
+    public ArrayRedBlackTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 预计节点数，避免扩容
+     */
+    public ArrayRedBlackTree(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 0) + 2;
+        elements = new Object[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        color = new byte[capacity];
+        doClear();
+    }
+
+    @Override
+    public void makeEmpty() {
+        Arrays.fill(elements, null);
+        doClear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return right[HEADER] == NULL_NODE;
+    }
+
+    @Override
+    public boolean contains(T x) {
+        int t = right[HEADER];
+        while (t != NULL_NODE) {
+            int compareResult = x.compareTo(element(t));
+            if (compareResult < 0) {
+                t = left[t];
+            } else if (compareResult > 0) {
+                t = right[t];
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public T findMin() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException("Empty tree!!!");
+        }
+        int t = right[HEADER];
+        while (left[t] != NULL_NODE) {
+            t = left[t];
+        }
+        return element(t);
+    }
+
+    @Override
+    public T findMax() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException("Empty tree!!!");
+        }
+        int t = right[HEADER];
+        while (right[t] != NULL_NODE) {
+            t = right[t];
+        }
+        return element(t);
+    }
+
+    /**
+     * 仅用于插入方法及其助手
+     * current: 当前节点
+     * parent: 父节点
+     * grand: 祖父节点
+     * great: 曾祖父节点
+     */
+    private int current;
+    private int parent;
+    private int grand;
+    private int great;
+
+    @Override
+    public boolean insert(T item) {
+        current = parent = grand = HEADER;
+        elements[NULL_NODE] = item;
+
+        // 与 RedBlackTree 相同：nullNode 的数据项等于 item，保证循环一定终止
+        while (compare(item, current) != 0) {
+            great = grand;
+            grand = parent;
+            parent = current;
+            current = compare(item, current) < 0 ? left[current] : right[current];
+
+            // 检查是否有两个红色的孩子； 如果是则翻转
+            if (color[left[current]] == RED && color[right[current]] == RED) {
+                handleReorient(item);
+            }
+        }
+        elements[NULL_NODE] = null;
+
+        // 如果已经存在则插入失败
+        if (current != NULL_NODE) {
+            return false;
+        }
+
+        current = allocate(item);
+        if (compare(item, parent) < 0) {
+            left[parent] = current;
+        } else {
+            right[parent] = current;
+        }
+        handleReorient(item);
+        return true;
+    }
+
+    /**
+     * 自顶向下删除：一次下降完成查找、调整颜色和摘除后继。
+     * 下降过程中保证 current 或它将要进入的孩子是红色，这样到达底部时摘除的节点一定是红色，不会破坏条件4。
+     * 匹配到 x 之后继续向右，再一路向左，最终停在后继节点上，用后继的数据项替换匹配节点，然后摘除后继。
+     */
+    @Override
+    public boolean remove(T x) {
+        if (isEmpty()) {
+            return false;
+        }
+        int g = NULL_NODE;
+        int p = NULL_NODE;
+        int q = HEADER;
+        int found = NULL_NODE;
+        boolean toRight = true;
+
+        while (child(q, toRight) != NULL_NODE) {
+            boolean last = toRight;
+            g = p;
+            p = q;
+            q = child(q, toRight);
+
+            int compareResult = x.compareTo(element(q));
+            toRight = compareResult >= 0;
+            if (compareResult == 0) {
+                found = q;
+            }
+
+            // q 和下一步要进入的孩子都是黑色时，需要把红色“推”下来
+            if (color[q] == BLACK && color[child(q, toRight)] == BLACK) {
+                if (color[child(q, !toRight)] == RED) {
+                    // 另一个孩子是红色：旋转上来，q 成为红色节点的孩子，而且自身变红
+                    int r = rotateForRemove(q, toRight);
+                    setChild(p, last, r);
+                    p = r;
+                } else {
+                    int s = child(p, !last);
+                    if (s != NULL_NODE) {
+                        if (color[child(s, !last)] == BLACK && color[child(s, last)] == BLACK) {
+                            // 兄弟的两个孩子都是黑色：颜色翻转
+                            color[p] = BLACK;
+                            color[s] = RED;
+                            color[q] = RED;
+                        } else {
+                            // 兄弟有红孩子：单旋转或双旋转
+                            boolean parentOnRight = right[g] == p;
+                            int r;
+                            if (color[child(s, last)] == RED) {
+                                setChild(p, !last, rotateForRemove(s, !last));
+                                r = rotateForRemove(p, last);
+                            } else {
+                                r = rotateForRemove(p, last);
+                            }
+                            setChild(g, parentOnRight, r);
+                            color[q] = RED;
+                            color[r] = RED;
+                            color[left[r]] = BLACK;
+                            color[right[r]] = BLACK;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (found != NULL_NODE) {
+            // q 是后继(或者匹配节点自身)，此时它是红色的(或者是唯一的根)，可以直接摘除
+            elements[found] = elements[q];
+            setChild(p, right[p] == q, left[q] == NULL_NODE ? right[q] : left[q]);
+            release(q);
+        }
+        color[right[HEADER]] = BLACK;
+        color[NULL_NODE] = BLACK;
+        return found != NULL_NODE;
+    }
+
+    @Override
+    public void printTree() {
+        if (isEmpty()) {
+            System.out.println("Empty tree");
+        } else {
+            System.out.println("========== Start print tree ==========");
+            printTree(right[HEADER]);
+            System.out.println("\n========== End print tree ==========");
+        }
+    }
+
+    // ================= 私有方法 ==================== //
+
+    @SuppressWarnings("unchecked")
+    private T element(int t) {
+        return (T) elements[t];
+    }
+
+    private int child(int t, boolean toRight) {
+        return toRight ? right[t] : left[t];
+    }
+
+    private void setChild(int t, boolean toRight, int c) {
+        if (toRight) {
+            right[t] = c;
+        } else {
+            left[t] = c;
+        }
+    }
+
+    /**
+     * 删除使用的单旋转: toRight 为 true 时左孩子上升(右旋)，否则右孩子上升(左旋)。
+     * 旋转后原根变红，新根变黑
+     *
+     * @param t       旋转子树的根
+     * @param toRight 旋转方向
+     * @return 新的根
+     */
+    private int rotateForRemove(int t, boolean toRight) {
+        int k = toRight ? rotateWithLeftChild(t) : rotateWithRightChild(t);
+        color[t] = RED;
+        color[k] = BLACK;
+        return k;
+    }
+
+    /**
+     * 使用 compareTo 比较 item 和 t 的数据项，如果 t 是 header，则 item 总是更大
+     */
+    private int compare(T item, int t) {
+        if (t == HEADER) {
+            return 1;
+        } else {
+            return item.compareTo(element(t));
+        }
+    }
+
+    /**
+     * 如果节点有两个红色子节点，则在插入期间调用的内部方法。
+     * 执行红黑翻转和旋转
+     *
+     * @param item 被插入的项目
+     */
+    private void handleReorient(T item) {
+        // 颜色翻转
+        color[current] = RED;
+        color[left[current]] = BLACK;
+        color[right[current]] = BLACK;
+
+        if (color[parent] == RED) {
+            // 必须旋转
+            color[grand] = RED;
+            if ((compare(item, grand) < 0) != (compare(item, parent) < 0)) {
+                parent = rotate(item, grand);
+            }
+            current = rotate(item, great);
+            color[current] = BLACK;
+        }
+        // 根节点置黑，保证根节点为黑色
+        color[right[HEADER]] = BLACK;
+    }
+
+    /**
+     * 执行单次或双次旋转的内部方法，结果附加到 parent
+     *
+     * @param item   在handleReorient()中的item
+     * @param parent 旋转子树的根的父级
+     * @return 旋转子树的根
+     */
+    private int rotate(T item, int parent) {
+        if (compare(item, parent) < 0) {
+            return left[parent] = compare(item, left[parent]) < 0 ?
+                    rotateWithLeftChild(left[parent]) :
+                    rotateWithRightChild(left[parent]);
+        } else {
+            return right[parent] = compare(item, right[parent]) < 0 ?
+                    rotateWithLeftChild(right[parent]) :
+                    rotateWithRightChild(right[parent]);
+        }
+    }
+
+    /**
+     * 单左旋
+     *
+     * @param k2 以当前节点作为根节点
+     * @return node
+     */
+    private int rotateWithLeftChild(int k2) {
+        int k1 = left[k2];
+        left[k2] = right[k1];
+        right[k1] = k2;
+        return k1;
+    }
+
+    /**
+     * 单右旋
+     *
+     * @param k1 以当前节点作为根节点
+     * @return node
+     */
+    private int rotateWithRightChild(int k1) {
+        int k2 = right[k1];
+        right[k1] = left[k2];
+        left[k2] = k1;
+        return k2;
+    }
+
+    /**
+     * 分配一个槽位，优先使用空闲链表
+     *
+     * @param item 数据项
+     * @return 槽位下标
+     */
+    private int allocate(T item) {
+        int t;
+        if (free != NULL_NODE) {
+            t = free;
+            free = left[t];
+        } else {
+            if (top == elements.length) {
+                ensureCapacity(elements.length * 2);
+            }
+            t = top++;
+        }
+        elements[t] = item;
+        left[t] = right[t] = NULL_NODE;
+        color[t] = BLACK;
+        return t;
+    }
+
+    /**
+     * 回收槽位到空闲链表
+     *
+     * @param t 槽位下标
+     */
+    private void release(int t) {
+        elements[t] = null;
+        right[t] = NULL_NODE;
+        left[t] = free;
+        free = t;
+    }
+
+    private void ensureCapacity(int newCapacity) {
+        elements = Arrays.copyOf(elements, newCapacity);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        color = Arrays.copyOf(color, newCapacity);
+    }
+
+    private void doClear() {
+        top = HEADER + 1;
+        free = NULL_NODE;
+        left[NULL_NODE] = right[NULL_NODE] = NULL_NODE;
+        left[HEADER] = right[HEADER] = NULL_NODE;
+        color[NULL_NODE] = color[HEADER] = BLACK;
+    }
+
+    /**
+     * 校验红黑树的性质：根是黑色、没有连续的红节点、每条路径上的黑色节点数相同。仅供测试使用
+     *
+     * @return 黑高(不含 nullNode)
+     */
+    int checkInvariants() {
+        if (color[NULL_NODE] != BLACK || color[right[HEADER]] != BLACK) {
+            throw new IllegalStateException("Root or null node is red");
+        }
+        return blackHeight(right[HEADER]);
+    }
+
+    private int blackHeight(int t) {
+        if (t == NULL_NODE) {
+            return 0;
+        }
+        if (color[t] == RED && (color[left[t]] == RED || color[right[t]] == RED)) {
+            throw new IllegalStateException("Red node " + elements[t] + " has a red child");
+        }
+        int leftHeight = blackHeight(left[t]);
+        if (leftHeight != blackHeight(right[t])) {
+            throw new IllegalStateException("Black height differs below " + elements[t]);
+        }
+        return leftHeight + (color[t] == BLACK ? 1 : 0);
+    }
+
+    /**
+     * 打印二叉树
+     *
+     * @param t 以当前节点为根节点
+     */
+    private void printTree(int t) {
+        if (t != NULL_NODE) {
+            printTree(left[t]);
+            System.out.print((t == right[HEADER] ? " root->" : " ") + elements[t] + ":" + color[t]);
+            printTree(right[t]);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.zss.structures.tree;
+
+import java.util.Iterator;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 11:05
+ * @desc 批量构建时使用: 包装输入，并检查它是严格递增的
+ *
+ * @param <T> 数据项类型
+ */
+class AscendingIterator<T extends Comparable<? super T>> implements Iterator<T> {
+
+    private final Iterator<? extends T> source;
+    private T previous;
+
+    AscendingIterator(Iterator<? extends T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public T next() {
+        T x = source.next();
+        if (previous != null && previous.compareTo(x) >= 0) {
+            throw new IllegalArgumentException("Input is not strictly ascending: " + previous + " then " + x);
+        }
+        previous = x;
+        return x;
+    }
+}
@@ -1,7 +1,11 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.exceptions.UnderFlowException;
-import com.zss.structures.tree.inter.Tree;
+import com.zss.structures.tree.inter.Instrumented;
+import com.zss.structures.tree.inter.OrderedTree;
+
+import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * @author ZSS
@@ -9,14 +13,41 @@ import com.zss.structures.tree.inter.Tree;
  * @desc AVL树 -- 带有平衡条件的二叉查找树
  */
 @SuppressWarnings("unused")
-public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tree<T> {
+public class AvlBinarySearchTree<T extends Comparable<? super T>> implements OrderedTree<T>, Instrumented {
 
     private AvlNode<T> root;
 
+    private final TreeMetrics metrics = TreeMetrics.create("AvlBinarySearchTree");
+
     public AvlBinarySearchTree() {
         this.root = null;
     }
 
+    /**
+     * 由有序数组构建一棵完全平衡的AVL树 -- O(N)
+     *
+     * @param sorted 严格递增的数组
+     * @param <T>    anyType
+     * @return tree
+     */
+    public static <T extends Comparable<? super T>> AvlBinarySearchTree<T> buildFromSorted(T[] sorted) {
+        return buildFromSorted(Arrays.asList(sorted).iterator(), sorted.length);
+    }
+
+    /**
+     * 由有序序列构建一棵完全平衡的AVL树 -- O(N)，每个元素只读取一次，不做任何旋转
+     *
+     * @param sorted 严格递增的序列
+     * @param size   序列中元素的个数
+     * @param <T>    anyType
+     * @return tree
+     */
+    public static <T extends Comparable<? super T>> AvlBinarySearchTree<T> buildFromSorted(Iterator<? extends T> sorted, int size) {
+        AvlBinarySearchTree<T> tree = new AvlBinarySearchTree<>();
+        tree.root = tree.build(0, size - 1, new AscendingIterator<>(sorted));
+        return tree;
+    }
+
     @Override
     public void makeEmpty() {
         root = null;
@@ -29,7 +60,14 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
 
     @Override
     public boolean contains(T x) {
-        return contains(x, root);
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return contains(x, root);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.CONTAINS, start);
+            }
+        }
     }
 
     @Override
@@ -50,14 +88,167 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         return findMax(root).element;
     }
 
+    /**
+     * 获取树中元素个数 -- O(1)
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * 第 k 小的项(从0开始计数) -- O(log N)
+     *
+     * @param k 序号，0 表示最小项
+     * @return element
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("k: " + k + ", size: " + size());
+        }
+        AvlNode<T> t = root;
+        for (; ; ) {
+            int leftSize = size(t.left);
+            if (k < leftSize) {
+                t = t.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                t = t.right;
+            } else {
+                return t.element;
+            }
+        }
+    }
+
+    /**
+     * 树中严格小于 x 的项的个数 -- O(log N)
+     * 如果 x 存在，则 select(rank(x)) == x
+     *
+     * @param x 参照项
+     * @return 排名
+     */
+    public int rank(T x) {
+        int rank = 0;
+        AvlNode<T> t = root;
+        while (t != null) {
+            int compareResult = compare(x, t.element);
+            if (compareResult < 0) {
+                t = t.left;
+            } else if (compareResult > 0) {
+                rank += size(t.left) + 1;
+                t = t.right;
+            } else {
+                return rank + size(t.left);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public boolean insert(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            // 节点记录了子树大小，大小变化即说明树被修改
+            int oldSize = size();
+            root = insert(x, root);
+            return size() != oldSize;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.INSERT, start);
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            // 节点记录了子树大小，大小变化即说明树被修改
+            int oldSize = size();
+            root = remove(x, root);
+            return size() != oldSize;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.REMOVE, start);
+            }
+        }
+    }
+
+    @Override
+    public T floor(T x) {
+        T best = null;
+        AvlNode<T> t = root;
+        while (t != null) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T ceiling(T x) {
+        T best = null;
+        AvlNode<T> t = root;
+        while (t != null) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T lower(T x) {
+        T best = null;
+        AvlNode<T> t = root;
+        while (t != null) {
+            if (compare(x, t.element) <= 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T higher(T x) {
+        T best = null;
+        AvlNode<T> t = root;
+        while (t != null) {
+            if (compare(x, t.element) < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
     @Override
-    public void insert(T x) {
-        root = insert(x, root);
+    public Iterable<T> range(T lo, T hi) {
+        return () -> new TreeIterator(lo, hi);
     }
 
     @Override
-    public void remove(T x) {
-        root = remove(x, root);
+    public Iterator<T> iterator() {
+        return new TreeIterator(null, null);
     }
 
     @Override
@@ -72,8 +263,23 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
     }
 
 
+    @Override
+    public TreeMetrics metrics() {
+        return metrics;
+    }
+
     // =============== 内部私有类和方法 =============== //
 
+    /**
+     * 比较两个数据项，开启统计时计数
+     */
+    private int compare(T x, T y) {
+        if (TreeMetrics.ENABLED) {
+            metrics.comparison();
+        }
+        return x.compareTo(y);
+    }
+
     /**
      * 如果树T中存在含有项X的系欸但，那么返回true，否则返回false
      *
@@ -84,7 +290,10 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         if (t == null) {
             return false;
         }
-        int compareResult = x.compareTo(t.element);
+        if (TreeMetrics.ENABLED) {
+            metrics.visit();
+        }
+        int compareResult = compare(x, t.element);
         if (compareResult < 0) {
             // 如果目标值小于当前项值，则继续遍历左子树
             return contains(x, t.left);
@@ -146,19 +355,44 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         if (t == null) {
             return new AvlNode<>(x);
         }
+        if (TreeMetrics.ENABLED) {
+            metrics.visit();
+        }
 
-        int compareResult = x.compareTo(t.element);
+        int compareResult = compare(x, t.element);
 
         if (compareResult < 0) {
             t.left = insert(x, t.left);
         } else if (compareResult > 0) {
             t.right = insert(x, t.right);
         } else {
-            System.out.println("The element [" + x + "] already exist !!");
+            // 重复项，什么也不做
+            return t;
         }
         return balance(t);
     }
 
+    /**
+     * 按中序依次消费 it，构建由下标 [lo, hi] 组成的子树：先构建左子树，再取出中间的项，最后构建右子树
+     *
+     * @param lo 起始下标
+     * @param hi 结束下标
+     * @param it 有序序列
+     * @return 子树的根
+     */
+    private AvlNode<T> build(int lo, int hi, Iterator<T> it) {
+        if (hi < lo) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        AvlNode<T> left = build(lo, mid - 1, it);
+        AvlNode<T> t = new AvlNode<>(it.next(), left, null);
+        t.right = build(mid + 1, hi, it);
+        t.height = Math.max(height(t.left), height(t.right)) + 1;
+        t.size = size(t.left) + size(t.right) + 1;
+        return t;
+    }
+
     /**
      * 平衡差值: 1
      */
@@ -190,6 +424,7 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         }
 
         t.height = Math.max(height(t.left), height(t.right)) + 1;
+        t.size = size(t.left) + size(t.right) + 1;
         return t;
     }
 
@@ -200,11 +435,16 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
      * @return node
      */
     private AvlNode<T> rotateWithLeftChild(AvlNode<T> k2) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         AvlNode<T> k1 = k2.left;
         k2.left = k1.right;
         k1.right = k2;
         k2.height = Math.max(height(k2.left), height(k2.right)) + 1;
         k1.height = Math.max(height(k1.left), k2.height) + 1;
+        k2.size = size(k2.left) + size(k2.right) + 1;
+        k1.size = size(k1.left) + k2.size + 1;
         return k1;
     }
 
@@ -215,11 +455,16 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
      * @return node
      */
     private AvlNode<T> rotateWithRightChild(AvlNode<T> k1) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         AvlNode<T> k2 = k1.right;
         k1.right = k2.left;
         k2.left = k1;
         k1.height = Math.max(height(k1.left), height(k1.right)) + 1;
         k2.height = Math.max(k1.height, height(k2.right)) + 1;
+        k1.size = size(k1.left) + size(k1.right) + 1;
+        k2.size = k1.size + size(k2.right) + 1;
         return k2;
     }
 
@@ -255,8 +500,11 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         if (t == null){
             return null;
         }
+        if (TreeMetrics.ENABLED) {
+            metrics.visit();
+        }
 
-        int compareResult = x.compareTo(t.element);
+        int compareResult = compare(x, t.element);
 
         if (compareResult < 0){
             t.left = remove(x, t.left);
@@ -273,14 +521,14 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
     }
 
     /**
-     * 删除当前树的最小节点
+     * 删除当前树的最小节点，并沿途恢复平衡与子树大小
      *
      * @param t 以当前节点为根节点
      */
     public AvlNode<T> removeMin(AvlNode<T> t) {
         if (t.left != null) {
             t.left = removeMin(t.left);
-            return t;
+            return balance(t);
         }
         t = (t.right == null) ? null : t.right;
         return t;
@@ -296,6 +544,46 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         return t == null ? -1 : t.height;
     }
 
+    /**
+     * 获取子树大小，如果是空的，则返回 0
+     *
+     * @param t 当前节点
+     * @return 子树中的节点个数
+     */
+    private int size(AvlNode<T> t) {
+        return t == null ? 0 : t.size;
+    }
+
+    /**
+     * 中序迭代器
+     */
+    private class TreeIterator extends InOrderIterator<AvlNode<T>, T> {
+
+        TreeIterator(T lo, T hi) {
+            start(root, lo, hi);
+        }
+
+        @Override
+        protected AvlNode<T> left(AvlNode<T> t) {
+            return t.left;
+        }
+
+        @Override
+        protected AvlNode<T> right(AvlNode<T> t) {
+            return t.right;
+        }
+
+        @Override
+        protected T element(AvlNode<T> t) {
+            return t.element;
+        }
+
+        @Override
+        protected boolean isNil(AvlNode<T> t) {
+            return t == null;
+        }
+    }
+
     /**
      * 节点类
      */
@@ -304,6 +592,8 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
         T element;
         // 节点高度
         int height;
+        // 子树大小(包含自身)
+        int size;
         // 左子树
         AvlNode<T> left;
         // 右子树
@@ -314,6 +604,7 @@ public class AvlBinarySearchTree<T extends Comparable<? super T>> implements Tre
             this.left = left;
             this.right = right;
             this.height = 0;
+            this.size = 1;
         }
 
         AvlNode(T theElement) {
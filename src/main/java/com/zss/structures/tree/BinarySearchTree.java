@@ -1,8 +1,12 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tree.inter.Instrumented;
 import com.zss.structures.tree.inter.Tree;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 /**
  * @author ZSS
  * @date 2022/5/8 16:24
@@ -11,10 +15,12 @@ import com.zss.structures.tree.inter.Tree;
  * -- 对于树中的每个节点X，它的左子树中所有项的值小于X中的项，而它的右子树中所有项的值大于X中的项。
  */
 @SuppressWarnings("unused")
-public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T> {
+public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T>, Instrumented {
 
     private BinaryNode<T> root;
 
+    private final TreeMetrics metrics = TreeMetrics.create("BinarySearchTree");
+
     public BinarySearchTree() {
         root = null;
     }
@@ -31,7 +37,14 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
 
     @Override
     public boolean contains(T x) {
-        return contains(x, root);
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return contains(x, root);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.CONTAINS, start);
+            }
+        }
     }
 
     @Override
@@ -53,13 +66,27 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
     }
 
     @Override
-    public void insert(T x) {
-        root = insert(x, root);
+    public boolean insert(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return insertIteratively(x);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.INSERT, start);
+            }
+        }
     }
 
     @Override
-    public void remove(T x) {
-        root = remove(x, root);
+    public boolean remove(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return removeIteratively(x);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.REMOVE, start);
+            }
+        }
     }
 
     @Override
@@ -73,29 +100,48 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
         }
     }
 
+    @Override
+    public TreeMetrics metrics() {
+        return metrics;
+    }
+
     // ================= 私有方法 ==================== //
 
     /**
-     * 如果树T中存在含有项X的系欸但，那么返回true，否则返回false
+     * 比较两个数据项，开启统计时计数
+     */
+    private int compare(T x, T y) {
+        if (TreeMetrics.ENABLED) {
+            metrics.comparison();
+        }
+        return x.compareTo(y);
+    }
+
+    /**
+     * 如果树T中存在含有项X的节点，那么返回true，否则返回false
+     * 使用循环而不是递归：树退化成链表时递归深度等于节点数，会导致栈溢出
      *
      * @param x 需要查找的项
      * @param t 以当前节点为根节点
      */
     private boolean contains(T x, BinaryNode<T> t) {
-        if (t == null) {
-            return false;
-        }
-        int compareResult = x.compareTo(t.element);
-        if (compareResult < 0) {
-            // 如果目标值小于当前项值，则继续遍历左子树
-            return contains(x, t.left);
-        } else if (compareResult > 0) {
-            // 如果目标值项大于当前项值，则继续遍历右子树
-            return contains(x, t.right);
-        } else {
-            // 匹配
-            return true;
+        while (t != null) {
+            if (TreeMetrics.ENABLED) {
+                metrics.visit();
+            }
+            int compareResult = compare(x, t.element);
+            if (compareResult < 0) {
+                // 如果目标值小于当前项值，则继续遍历左子树
+                t = t.left;
+            } else if (compareResult > 0) {
+                // 如果目标值项大于当前项值，则继续遍历右子树
+                t = t.right;
+            } else {
+                // 匹配
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -104,13 +150,12 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
      * @param t 以当前节点为根节点
      */
     private BinaryNode<T> findMin(BinaryNode<T> t) {
-        if (t == null) {
-            return null;
-        } else if (t.left == null) {
-            return t;
-        } else {
-            return findMin(t.left);
+        if (t != null) {
+            while (t.left != null) {
+                t = t.left;
+            }
         }
+        return t;
     }
 
     /**
@@ -128,72 +173,95 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
     }
 
     /**
-     * 插入新项
+     * 插入新项：沿查找路径走到空位置，挂在最后经过的节点下面
      *
      * @param x 需要插入的项
-     * @param t 以当前节点为根节点
+     * @return 是否插入成功，已存在返回 false
      */
-    private BinaryNode<T> insert(T x, BinaryNode<T> t) {
-        if (t == null) {
-            return new BinaryNode<>(x);
-        }
-        int compareResult = x.compareTo(t.element);
-
-        if (compareResult < 0) {
-            // 如果目标值小于当前项值，则继续遍历左子树
-            t.left = insert(x, t.left);
-        } else if (compareResult > 0) {
-            // 如果目标值项大于当前项值，则继续遍历右子树
-            t.right = insert(x, t.right);
-        } else {
-            // 0：如果匹配相等，那么说明有重复的项，则什么也不做或者做一些“更新”
-            System.out.println("The element [" + x + "] already exist !!");
+    private boolean insertIteratively(T x) {
+        if (root == null) {
+            root = new BinaryNode<>(x);
+            return true;
+        }
+        BinaryNode<T> parent = root;
+        for (; ; ) {
+            if (TreeMetrics.ENABLED) {
+                metrics.visit();
+            }
+            int compareResult = compare(x, parent.element);
+            if (compareResult < 0) {
+                // 如果目标值小于当前项值，则继续遍历左子树
+                if (parent.left == null) {
+                    parent.left = new BinaryNode<>(x);
+                    return true;
+                }
+                parent = parent.left;
+            } else if (compareResult > 0) {
+                // 如果目标值项大于当前项值，则继续遍历右子树
+                if (parent.right == null) {
+                    parent.right = new BinaryNode<>(x);
+                    return true;
+                }
+                parent = parent.right;
+            } else {
+                // 0：如果匹配相等，那么说明有重复的项，则什么也不做或者做一些“更新”
+                return false;
+            }
         }
-        return t;
     }
 
     /**
      * 删除指定项的节点
      *
      * @param x 需要删除的项
-     * @param t 以当前节点为根节点
+     * @return 是否删除成功，不存在返回 false
      */
-    private BinaryNode<T> remove(T x, BinaryNode<T> t) {
-        if (t == null) {
+    private boolean removeIteratively(T x) {
+        BinaryNode<T> parent = null;
+        BinaryNode<T> target = root;
+        while (target != null) {
+            if (TreeMetrics.ENABLED) {
+                metrics.visit();
+            }
+            int compareResult = compare(x, target.element);
+            if (compareResult == 0) {
+                break;
+            }
+            parent = target;
+            target = compareResult < 0 ? target.left : target.right;
+        }
+        if (target == null) {
             // 要删除的项未找到
-            System.out.println("要删除的项未找到");
-            return null;
-        }
-        int compareResult = x.compareTo(t.element);
-
-        if (compareResult < 0) {
-            t.left = remove(x, t.left);
-        } else if (compareResult > 0) {
-            t.right = remove(x, t.right);
-        } else if (t.left != null && t.right != null) {
-            // 有两个子节点
-            t.element = findMin(t.right).element;
-            // 可以使用 递归使用remove方法，但是也可以实现一个删除最小节点的方法
-            t.right = removeMin(t.right);
-        } else {
-            // 只有一个子节点
-            t = (t.left != null) ? t.left : t.right;
+            return false;
         }
-        return t;
-    }
 
-    /**
-     * 删除当前树的最小节点
-     *
-     * @param t 以当前节点为根节点
-     */
-    private BinaryNode<T> removeMin(BinaryNode<T> t) {
-        if (t.left != null) {
-            t.left = removeMin(t.left);
-            return t;
+        if (target.left != null && target.right != null) {
+            // 有两个子节点：用右子树的最小项替换，然后摘除这个最小节点(它没有左孩子)
+            BinaryNode<T> minParent = target;
+            BinaryNode<T> min = target.right;
+            while (min.left != null) {
+                minParent = min;
+                min = min.left;
+            }
+            target.element = min.element;
+            if (minParent == target) {
+                minParent.right = min.right;
+            } else {
+                minParent.left = min.right;
+            }
+            return true;
         }
-        t = (t.right == null) ? null : t.right;
-        return t;
+
+        // 只有一个子节点
+        BinaryNode<T> child = (target.left != null) ? target.left : target.right;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == target) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+        return true;
     }
 
     /**
@@ -202,10 +270,16 @@ public class BinarySearchTree<T extends Comparable<? super T>> implements Tree<T
      * @param t 以当前节点为根节点
      */
     private void printTree(BinaryNode<T> t) {
-        if (t != null) {
-            printTree(t.left);
+        // 中序遍历，用显式栈代替递归
+        Deque<BinaryNode<T>> stack = new ArrayDeque<>();
+        while (t != null || !stack.isEmpty()) {
+            while (t != null) {
+                stack.push(t);
+                t = t.left;
+            }
+            t = stack.pop();
             System.out.println(t.element);
-            printTree(t.right);
+            t = t.right;
         }
     }
 
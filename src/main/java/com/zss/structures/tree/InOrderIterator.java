@@ -0,0 +1,103 @@
+package com.zss.structures.tree;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 09:42
+ * @desc 中序迭代器 -- 各种树共用的骨架
+ * 用一个显式栈保存“尚未访问的祖先”，每次 next 弹出一个节点并压入其右子树的左链，
+ * 所以遍历 k 个元素的代价是 O(k + log n)，除了栈本身以外不再分配内存。
+ * 子类只需要告诉它如何取左右孩子、数据项以及什么是空节点。
+ *
+ * @param <N> 节点类型
+ * @param <T> 数据项类型
+ */
+abstract class InOrderIterator<N, T extends Comparable<? super T>> implements Iterator<T> {
+
+    private Object[] stack = new Object[16];
+    private int top = 0;
+    /**
+     * 上界(包含)，null 表示没有上界
+     */
+    private T hi;
+
+    /**
+     * 定位到第一个不小于 lo 的节点
+     *
+     * @param root 根节点
+     * @param lo   下界(包含)，null 表示没有下界
+     * @param hi   上界(包含)，null 表示没有上界
+     */
+    protected final void start(N root, T lo, T hi) {
+        this.hi = hi;
+        N t = root;
+        while (!isNil(t)) {
+            if (lo == null || lo.compareTo(element(t)) <= 0) {
+                push(t);
+                t = left(t);
+            } else {
+                t = right(t);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return top > 0 && (hi == null || element(peek()).compareTo(hi) <= 0);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        N t = peek();
+        stack[--top] = null;
+        // 压入右子树的左链
+        for (N c = right(t); !isNil(c); c = left(c)) {
+            push(c);
+        }
+        return element(t);
+    }
+
+    /**
+     * @param t 节点
+     * @return 左孩子
+     */
+    protected abstract N left(N t);
+
+    /**
+     * @param t 节点
+     * @return 右孩子
+     */
+    protected abstract N right(N t);
+
+    /**
+     * @param t 节点
+     * @return 数据项
+     */
+    protected abstract T element(N t);
+
+    /**
+     * @param t 节点
+     * @return 是否为空节点(null 或 nullNode)
+     */
+    protected abstract boolean isNil(N t);
+
+    // ================= 私有方法 ==================== //
+
+    private void push(N t) {
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top++] = t;
+    }
+
+    @SuppressWarnings("unchecked")
+    private N peek() {
+        return (N) stack[top - 1];
+    }
+}
@@ -0,0 +1,270 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.exceptions.UnderFlowException;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 14:02
+ * @desc AVL树 -- int 特化版本
+ * 与 AvlBinarySearchTree 的操作相同，但节点直接保存 int，比较时不装箱也不经过 compareTo
+ */
+@SuppressWarnings("unused")
+public class IntAvlTree {
+
+    private IntAvlNode root;
+
+    public IntAvlTree() {
+        this.root = null;
+    }
+
+    public void makeEmpty() {
+        root = null;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public boolean contains(int x) {
+        IntAvlNode t = root;
+        while (t != null) {
+            if (x < t.element) {
+                t = t.left;
+            } else if (x > t.element) {
+                t = t.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int findMin() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException();
+        }
+        IntAvlNode t = root;
+        while (t.left != null) {
+            t = t.left;
+        }
+        return t.element;
+    }
+
+    public int findMax() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException();
+        }
+        IntAvlNode t = root;
+        while (t.right != null) {
+            t = t.right;
+        }
+        return t.element;
+    }
+
+    public void insert(int x) {
+        root = insert(x, root);
+    }
+
+    public void remove(int x) {
+        root = remove(x, root);
+    }
+
+    public void printTree() {
+        if (isEmpty()) {
+            System.out.println("Empty tree");
+        } else {
+            System.out.println("========== Start print tree ==========");
+            printTree(root);
+            System.out.println("========== Stop print tree ==========");
+        }
+    }
+
+    // =============== 内部私有类和方法 =============== //
+
+    /**
+     * 打印二叉树
+     *
+     * @param t 以当前节点为根节点
+     */
+    private void printTree(IntAvlNode t) {
+        if (t != null) {
+            printTree(t.left);
+            System.out.println(t.element);
+            printTree(t.right);
+        }
+    }
+
+    /**
+     * 插入
+     */
+    private IntAvlNode insert(int x, IntAvlNode t) {
+        if (t == null) {
+            return new IntAvlNode(x);
+        }
+
+        if (x < t.element) {
+            t.left = insert(x, t.left);
+        } else if (x > t.element) {
+            t.right = insert(x, t.right);
+        } else {
+            // 重复项，什么也不做
+            return t;
+        }
+        return balance(t);
+    }
+
+    /**
+     * 删除指定项的节点
+     *
+     * @param x 需要删除的项
+     * @param t 以当前节点为根节点
+     */
+    private IntAvlNode remove(int x, IntAvlNode t) {
+        if (t == null) {
+            return null;
+        }
+
+        if (x < t.element) {
+            t.left = remove(x, t.left);
+        } else if (x > t.element) {
+            t.right = remove(x, t.right);
+        } else if (t.left != null && t.right != null) {
+            IntAvlNode min = t.right;
+            while (min.left != null) {
+                min = min.left;
+            }
+            t.element = min.element;
+            t.right = removeMin(t.right);
+        } else {
+            t = (t.left != null) ? t.left : t.right;
+        }
+        return balance(t);
+    }
+
+    /**
+     * 删除当前树的最小节点，并沿途恢复平衡
+     *
+     * @param t 以当前节点为根节点
+     */
+    private IntAvlNode removeMin(IntAvlNode t) {
+        if (t.left == null) {
+            return t.right;
+        }
+        t.left = removeMin(t.left);
+        return balance(t);
+    }
+
+    /**
+     * 平衡差值: 1
+     */
+    private static final int ALLOWED_IMBALANCE = 1;
+
+    /**
+     * 保持平衡
+     *
+     * @param t 以当前节点为根节点
+     * @return node
+     */
+    private IntAvlNode balance(IntAvlNode t) {
+        if (t == null) {
+            return null;
+        }
+
+        if (height(t.left) - height(t.right) > ALLOWED_IMBALANCE) {
+            if (height(t.left.left) >= height(t.left.right)) {
+                t = rotateWithLeftChild(t);
+            } else {
+                t = doubleWithLeftChild(t);
+            }
+        } else if (height(t.right) - height(t.left) > ALLOWED_IMBALANCE) {
+            if (height(t.right.right) >= height(t.right.left)) {
+                t = rotateWithRightChild(t);
+            } else {
+                t = doubleWithRightChild(t);
+            }
+        }
+
+        t.height = Math.max(height(t.left), height(t.right)) + 1;
+        return t;
+    }
+
+    /**
+     * 单左旋
+     *
+     * @param k2 以当前节点作为根节点
+     * @return node
+     */
+    private IntAvlNode rotateWithLeftChild(IntAvlNode k2) {
+        IntAvlNode k1 = k2.left;
+        k2.left = k1.right;
+        k1.right = k2;
+        k2.height = Math.max(height(k2.left), height(k2.right)) + 1;
+        k1.height = Math.max(height(k1.left), k2.height) + 1;
+        return k1;
+    }
+
+    /**
+     * 单右旋
+     *
+     * @param k1 以当前节点作为根节点
+     * @return node
+     */
+    private IntAvlNode rotateWithRightChild(IntAvlNode k1) {
+        IntAvlNode k2 = k1.right;
+        k1.right = k2.left;
+        k2.left = k1;
+        k1.height = Math.max(height(k1.left), height(k1.right)) + 1;
+        k2.height = Math.max(k1.height, height(k2.right)) + 1;
+        return k2;
+    }
+
+    /**
+     * 双左旋
+     *
+     * @param k3 以当前节点为根节点
+     * @return node
+     */
+    private IntAvlNode doubleWithLeftChild(IntAvlNode k3) {
+        k3.left = rotateWithRightChild(k3.left);
+        return rotateWithLeftChild(k3);
+    }
+
+    /**
+     * 双右旋
+     *
+     * @param k3 以当前节点为根节点
+     * @return node
+     */
+    private IntAvlNode doubleWithRightChild(IntAvlNode k3) {
+        k3.right = rotateWithLeftChild(k3.right);
+        return rotateWithRightChild(k3);
+    }
+
+    /**
+     * 获取节点高度，如果是空的，责返回 -1
+     *
+     * @param t 当前节点
+     * @return 节点高度
+     */
+    private static int height(IntAvlNode t) {
+        return t == null ? -1 : t.height;
+    }
+
+    /**
+     * 节点类
+     */
+    private static class IntAvlNode {
+        // 节点数据
+        int element;
+        // 节点高度
+        int height;
+        // 左子树
+        IntAvlNode left;
+        // 右子树
+        IntAvlNode right;
+
+        IntAvlNode(int element) {
+            this.element = element;
+        }
+    }
+}
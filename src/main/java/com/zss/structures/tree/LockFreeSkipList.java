@@ -0,0 +1,326 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tree.inter.Tree;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 18:30
+ * @desc 无锁跳表 -- 可以被多个线程同时使用的有序集合
+ * 每个节点在每一层都有一个后继引用，删除分两步：
+ * ---- 逻辑删除: 自顶向下把节点各层的后继引用替换成 Marked(后继)，最底层替换成功即视为删除
+ * ---- 物理删除: 之后任何经过该节点的 find 都会用 CAS 把它从链表中摘掉
+ * 插入先用 CAS 链入最底层(此刻即视为插入成功)，再逐层向上链入。
+ * contains 只读不写，遇到被标记的节点直接跳过，所以永远不会阻塞。
+ */
+@SuppressWarnings("unused")
+public class LockFreeSkipList<T extends Comparable<? super T>> implements Tree<T> {
+
+    /**
+     * 最高层数，足够容纳 2^32 个元素
+     */
+    private static final int MAX_LEVEL = 31;
+
+    private final SkipNode<T> head;
+    private final SkipNode<T> tail;
+    /**
+     * 当前使用到的最高层，只增不减；查找从这一层开始，避免逐层走过空的高层
+     */
+    private final AtomicInteger topLevel = new AtomicInteger();
+
+    public LockFreeSkipList() {
+        tail = new SkipNode<>(null, MAX_LEVEL);
+        head = new SkipNode<>(null, MAX_LEVEL);
+        doClear();
+    }
+
+    /**
+     * 清空。与其他线程的并发操作之间没有原子性保证
+     */
+    @Override
+    public void makeEmpty() {
+        doClear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstNode() == tail;
+    }
+
+    @Override
+    public boolean contains(T x) {
+        SkipNode<T> pred = head;
+        SkipNode<T> curr = null;
+        for (int level = topLevel.get(); level >= 0; level--) {
+            curr = successor(pred.next.get(level));
+            for (; ; ) {
+                Object link = curr.next.get(level);
+                // 跳过已被逻辑删除的节点
+                while (link instanceof Marked) {
+                    curr = successor(link);
+                    link = curr.next.get(level);
+                }
+                if (curr != tail && curr.element.compareTo(x) < 0) {
+                    pred = curr;
+                    curr = successor(link);
+                } else {
+                    break;
+                }
+            }
+        }
+        return curr != tail && curr.element.compareTo(x) == 0;
+    }
+
+    @Override
+    public T findMin() throws UnderFlowException {
+        SkipNode<T> first = firstNode();
+        if (first == tail) {
+            throw new UnderFlowException("Empty skip list!!!");
+        }
+        return first.element;
+    }
+
+    @Override
+    public T findMax() throws UnderFlowException {
+        // 每一层都走到尽头，pred 只停留在未被删除的节点上
+        SkipNode<T> pred = head;
+        for (int level = topLevel.get(); level >= 0; level--) {
+            SkipNode<T> curr = successor(pred.next.get(level));
+            while (curr != tail) {
+                if (!curr.isDeleted()) {
+                    pred = curr;
+                }
+                curr = successor(curr.next.get(level));
+            }
+        }
+        if (pred == head) {
+            throw new UnderFlowException("Empty skip list!!!");
+        }
+        return pred.element;
+    }
+
+    @Override
+    public boolean insert(T x) {
+        int level = randomLevel();
+        raiseTopLevel(level);
+        @SuppressWarnings("unchecked")
+        SkipNode<T>[] preds = (SkipNode<T>[]) new SkipNode[MAX_LEVEL + 1];
+        @SuppressWarnings("unchecked")
+        SkipNode<T>[] succs = (SkipNode<T>[]) new SkipNode[MAX_LEVEL + 1];
+
+        for (; ; ) {
+            if (find(x, preds, succs)) {
+                // 重复项，什么也不做
+                return false;
+            }
+            SkipNode<T> newNode = new SkipNode<>(x, level);
+            for (int i = 0; i <= level; i++) {
+                newNode.next.lazySet(i, succs[i]);
+            }
+            // 链入最底层即视为插入成功
+            if (!preds[0].next.compareAndSet(0, succs[0], newNode)) {
+                continue;
+            }
+            // 逐层向上链入，失败则重新定位前驱和后继
+            for (int i = 1; i <= level; i++) {
+                for (; ; ) {
+                    SkipNode<T> succ = succs[i];
+                    Object link = newNode.next.get(i);
+                    if (link instanceof Marked || (link != succ && !newNode.next.compareAndSet(i, link, succ))) {
+                        // newNode 已被其他线程标记删除，不再继续向上链入；插入本身已经成功
+                        return true;
+                    }
+                    if (preds[i].next.compareAndSet(i, succ, newNode)) {
+                        break;
+                    }
+                    find(x, preds, succs);
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(T x) {
+        @SuppressWarnings("unchecked")
+        SkipNode<T>[] preds = (SkipNode<T>[]) new SkipNode[MAX_LEVEL + 1];
+        @SuppressWarnings("unchecked")
+        SkipNode<T>[] succs = (SkipNode<T>[]) new SkipNode[MAX_LEVEL + 1];
+
+        if (!find(x, preds, succs)) {
+            return false;
+        }
+        SkipNode<T> victim = succs[0];
+
+        // 自顶向下标记除最底层以外的各层
+        for (int level = victim.topLevel; level >= 1; level--) {
+            Object link = victim.next.get(level);
+            while (!(link instanceof Marked)) {
+                victim.next.compareAndSet(level, link, new Marked(link));
+                link = victim.next.get(level);
+            }
+        }
+        // 最底层: 谁标记成功谁就完成了删除
+        Object link = victim.next.get(0);
+        while (!(link instanceof Marked)) {
+            if (victim.next.compareAndSet(0, link, new Marked(link))) {
+                // 顺便物理摘除
+                find(x, preds, succs);
+                return true;
+            }
+            link = victim.next.get(0);
+        }
+        // 其他线程抢先完成了删除
+        return false;
+    }
+
+    @Override
+    public void printTree() {
+        if (isEmpty()) {
+            System.out.println("Empty tree");
+        } else {
+            System.out.println("========== Start print tree ==========");
+            for (SkipNode<T> t = firstNode(); t != tail; t = successor(t.next.get(0))) {
+                if (!t.isDeleted()) {
+                    System.out.println(t.element);
+                }
+            }
+            System.out.println("========== Stop print tree ==========");
+        }
+    }
+
+    // ================= 私有方法 ==================== //
+
+    /**
+     * 定位 x 在每一层的前驱和后继，途中摘除所有被标记的节点
+     *
+     * @param x     目标项
+     * @param preds 每一层的前驱
+     * @param succs 每一层的后继
+     * @return 最底层的后继是否就是 x
+     */
+    private boolean find(T x, SkipNode<T>[] preds, SkipNode<T>[] succs) {
+        int top = topLevel.get();
+        retry:
+        for (; ; ) {
+            SkipNode<T> pred = head;
+            SkipNode<T> curr = null;
+            for (int level = MAX_LEVEL; level > top; level--) {
+                preds[level] = head;
+                succs[level] = tail;
+            }
+            for (int level = top; level >= 0; level--) {
+                Object predLink = pred.next.get(level);
+                if (predLink instanceof Marked) {
+                    // 前驱在此期间被删除了，从头开始
+                    continue retry;
+                }
+                curr = successor(predLink);
+                for (; ; ) {
+                    Object link = curr.next.get(level);
+                    while (link instanceof Marked) {
+                        // curr 已被逻辑删除，摘除它；前驱也被修改了则从头开始
+                        SkipNode<T> succ = successor(link);
+                        if (!pred.next.compareAndSet(level, curr, succ)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                        link = curr.next.get(level);
+                    }
+                    if (curr != tail && curr.element.compareTo(x) < 0) {
+                        pred = curr;
+                        curr = successor(link);
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != tail && curr.element.compareTo(x) == 0;
+        }
+    }
+
+    /**
+     * 最底层第一个未被删除的节点，没有则返回 tail
+     */
+    private SkipNode<T> firstNode() {
+        SkipNode<T> t = successor(head.next.get(0));
+        while (t != tail && t.isDeleted()) {
+            t = successor(t.next.get(0));
+        }
+        return t;
+    }
+
+    /**
+     * 在链入任何一层之前先抬高 topLevel，保证查找不会漏掉这一层
+     */
+    private void raiseTopLevel(int level) {
+        int current = topLevel.get();
+        while (current < level && !topLevel.compareAndSet(current, level)) {
+            current = topLevel.get();
+        }
+    }
+
+    /**
+     * 几何分布的随机层数: 第 i 层的概率为 1/2^(i+1)
+     */
+    private static int randomLevel() {
+        int level = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    /**
+     * 从一个后继引用中取出后继节点，不论它是否被标记
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> SkipNode<T> successor(Object link) {
+        return (SkipNode<T>) (link instanceof Marked ? ((Marked) link).node : link);
+    }
+
+    private void doClear() {
+        for (int i = 0; i <= MAX_LEVEL; i++) {
+            head.next.set(i, tail);
+        }
+        topLevel.set(0);
+    }
+
+    /**
+     * 跳表节点
+     *
+     * @param <T> anyType
+     */
+    private static class SkipNode<T> {
+        final T element;
+        final int topLevel;
+        /**
+         * 每一层的后继: 未删除时直接是 SkipNode，逻辑删除后是 Marked
+         */
+        final AtomicReferenceArray<Object> next;
+
+        SkipNode(T element, int topLevel) {
+            this.element = element;
+            this.topLevel = topLevel;
+            this.next = new AtomicReferenceArray<>(topLevel + 1);
+        }
+
+        boolean isDeleted() {
+            return next.get(0) instanceof Marked;
+        }
+    }
+
+    /**
+     * 被标记的后继引用。每次标记都创建新的对象，所以 CAS 期望“未标记的后继”时不会误中
+     */
+    private static final class Marked {
+        final Object node;
+
+        Marked(Object node) {
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,580 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.codec.KeyCodec;
+import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tree.inter.Tree;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 16:52
+ * @desc B+树 -- 存放在内存映射文件中的定长键索引
+ * 所有的节点都是文件中的一页，数据项只存放在叶子中，叶子之间用双向链表相连以支持顺序扫描。
+ * 文件按 4MB 分段映射，已映射的分段缓存在 segments 中，页的读写由操作系统的页缓存负责，
+ * 因此索引可以远大于堆内存，重启后重新打开文件即可，无需重建。
+ * 文件结构:
+ * ---- 第0页: 元数据(魔数、页大小、键宽度、根、页数、第一个叶子、元素个数)
+ * ---- 其余页: 节点，页头依次为 类型(1) / 保留(3) / 键的个数(4) / 下一个叶子(4) / 上一个叶子(4)
+ * 删除时不合并节点(与许多数据库的做法相同)，空出的位置由后续插入复用。
+ */
+@SuppressWarnings("unused")
+public class MappedBPlusTree<T extends Comparable<? super T>> implements Tree<T>, Closeable {
+
+    public static final int DEFAULT_PAGE_SIZE = 4096;
+
+    private static final long MAGIC = 0x42504C5553545245L;
+    private static final int VERSION = 1;
+
+    private static final int SEGMENT_SHIFT = 22;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    /**
+     * 元数据页的字段偏移
+     */
+    private static final int META_MAGIC = 0;
+    private static final int META_VERSION = 8;
+    private static final int META_PAGE_SIZE = 12;
+    private static final int META_KEY_WIDTH = 16;
+    private static final int META_ROOT = 20;
+    private static final int META_PAGE_COUNT = 24;
+    private static final int META_FIRST_LEAF = 28;
+    private static final int META_SIZE = 32;
+
+    /**
+     * 节点页头的字段偏移
+     */
+    private static final int NODE_TYPE = 0;
+    private static final int NODE_COUNT = 4;
+    private static final int NODE_NEXT = 8;
+    private static final int NODE_PREV = 12;
+    private static final int NODE_HEADER = 16;
+
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+
+    /**
+     * 第0页是元数据，不可能是节点，所以用来表示“没有页”
+     */
+    private static final int NO_PAGE = 0;
+
+    private final FileChannel channel;
+    private final KeyCodec<T> codec;
+    private final int pageSize;
+    private final int keyWidth;
+    private final int maxLeafKeys;
+    private final int maxInternalKeys;
+    /**
+     * 内部节点中键区的起始偏移: 页头之后先是 maxInternalKeys + 1 个孩子页号
+     */
+    private final int internalKeyBase;
+    /**
+     * 页内移动数据时使用的缓冲区
+     */
+    private final byte[] scratch;
+
+    private MappedByteBuffer[] segments;
+
+    private int root;
+    private int pageCount;
+    private int firstLeaf;
+    private long size;
+
+    /**
+     * 仅用于插入：节点分裂时需要提升到父节点的键
+     */
+    private T promoted;
+
+    public MappedBPlusTree(Path file, KeyCodec<T> codec) throws IOException {
+        this(file, codec, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 打开或创建索引文件
+     *
+     * @param file     索引文件
+     * @param codec    键的编解码器
+     * @param pageSize 页大小，必须是2的幂；打开已有文件时必须与创建时相同
+     * @throws IOException 文件无法打开，或者不是一个匹配的B+树文件
+     */
+    public MappedBPlusTree(Path file, KeyCodec<T> codec, int pageSize) throws IOException {
+        if (Integer.bitCount(pageSize) != 1 || pageSize > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Page size must be a power of two no larger than " + SEGMENT_SIZE);
+        }
+        this.codec = codec;
+        this.pageSize = pageSize;
+        this.keyWidth = codec.width();
+        this.maxLeafKeys = (pageSize - NODE_HEADER) / keyWidth;
+        this.maxInternalKeys = (pageSize - NODE_HEADER - Integer.BYTES) / (keyWidth + Integer.BYTES);
+        if (maxInternalKeys < 3) {
+            throw new IllegalArgumentException("Page size " + pageSize + " is too small for " + keyWidth + "-byte keys");
+        }
+        this.internalKeyBase = NODE_HEADER + Integer.BYTES * (maxInternalKeys + 1);
+        this.scratch = new byte[pageSize];
+        this.segments = new MappedByteBuffer[1];
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (channel.size() == 0) {
+            ByteBuffer meta = segment(0);
+            meta.putLong(META_MAGIC, MAGIC);
+            meta.putInt(META_VERSION, VERSION);
+            meta.putInt(META_PAGE_SIZE, pageSize);
+            meta.putInt(META_KEY_WIDTH, keyWidth);
+            doClear();
+        } else {
+            ByteBuffer meta = segment(0);
+            if (meta.getLong(META_MAGIC) != MAGIC || meta.getInt(META_VERSION) != VERSION) {
+                channel.close();
+                throw new IOException(file + " is not a B+ tree file");
+            }
+            if (meta.getInt(META_PAGE_SIZE) != pageSize || meta.getInt(META_KEY_WIDTH) != keyWidth) {
+                channel.close();
+                throw new IOException(file + " was created with a different page size or key width");
+            }
+            root = meta.getInt(META_ROOT);
+            pageCount = meta.getInt(META_PAGE_COUNT);
+            firstLeaf = meta.getInt(META_FIRST_LEAF);
+            size = meta.getLong(META_SIZE);
+        }
+    }
+
+    @Override
+    public void makeEmpty() {
+        doClear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 获取元素个数
+     *
+     * @return 元素个数
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(T x) {
+        int page = findLeaf(x);
+        return search(page, x) >= 0;
+    }
+
+    @Override
+    public T findMin() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException("Empty tree!!!");
+        }
+        // 删除不合并节点，所以需要跳过空叶子
+        int page = firstLeaf;
+        while (count(page) == 0) {
+            page = next(page);
+        }
+        return key(page, 0);
+    }
+
+    @Override
+    public T findMax() throws UnderFlowException {
+        if (isEmpty()) {
+            throw new UnderFlowException("Empty tree!!!");
+        }
+        int page = root;
+        while (!isLeaf(page)) {
+            page = child(page, count(page));
+        }
+        while (count(page) == 0) {
+            page = prev(page);
+        }
+        return key(page, count(page) - 1);
+    }
+
+    @Override
+    public boolean insert(T x) {
+        long oldSize = size;
+        int sibling = insert(x, root);
+        if (sibling != NO_PAGE) {
+            // 根分裂，树长高一层
+            int newRoot = allocatePage(INTERNAL);
+            setChild(newRoot, 0, root);
+            setChild(newRoot, 1, sibling);
+            writeKey(newRoot, 0, promoted);
+            setCount(newRoot, 1);
+            root = newRoot;
+        }
+        promoted = null;
+        if (size == oldSize) {
+            return false;
+        }
+        writeMeta();
+        return true;
+    }
+
+    @Override
+    public boolean remove(T x) {
+        int page = findLeaf(x);
+        int idx = search(page, x);
+        if (idx < 0) {
+            return false;
+        }
+        int n = count(page);
+        moveBytes(page, leafKeyOffset(idx + 1), leafKeyOffset(idx), (n - idx - 1) * keyWidth);
+        setCount(page, n - 1);
+        size--;
+        writeMeta();
+        return true;
+    }
+
+    @Override
+    public void printTree() {
+        if (isEmpty()) {
+            System.out.println("Empty tree");
+        } else {
+            System.out.println("========== Start print tree ==========");
+            forEach(System.out::println);
+            System.out.println("========== Stop print tree ==========");
+        }
+    }
+
+    /**
+     * 沿叶子链表顺序访问所有元素
+     *
+     * @param action 对每个元素执行的操作
+     */
+    public void forEach(Consumer<? super T> action) {
+        for (int page = firstLeaf; page != NO_PAGE; page = next(page)) {
+            int n = count(page);
+            for (int i = 0; i < n; i++) {
+                action.accept(key(page, i));
+            }
+        }
+    }
+
+    /**
+     * 顺序扫描 [lo, hi] 之间的元素：先下降到 lo 所在的叶子，然后沿叶子链表向右
+     *
+     * @param lo     下界(包含)
+     * @param hi     上界(包含)
+     * @param action 对每个元素执行的操作
+     */
+    public void scan(T lo, T hi, Consumer<? super T> action) {
+        int page = findLeaf(lo);
+        int idx = search(page, lo);
+        int i = idx >= 0 ? idx : -idx - 1;
+        for (; page != NO_PAGE; page = next(page), i = 0) {
+            int n = count(page);
+            for (; i < n; i++) {
+                T key = key(page, i);
+                if (key.compareTo(hi) > 0) {
+                    return;
+                }
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * 把所有修改写回磁盘
+     */
+    public void flush() {
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segments == null) {
+            return;
+        }
+        flush();
+        segments = null;
+        channel.close();
+    }
+
+    // ================= 私有方法 ==================== //
+
+    /**
+     * 插入到以 page 为根的子树
+     *
+     * @return 如果 page 分裂了，返回新的右兄弟，提升的键放在 promoted 中；否则返回 NO_PAGE
+     */
+    private int insert(T x, int page) {
+        if (isLeaf(page)) {
+            return insertIntoLeaf(page, x);
+        }
+        int idx = search(page, x);
+        int i = idx >= 0 ? idx + 1 : -idx - 1;
+        int sibling = insert(x, child(page, i));
+        if (sibling == NO_PAGE) {
+            return NO_PAGE;
+        }
+        return insertIntoInternal(page, i, promoted, sibling);
+    }
+
+    private int insertIntoLeaf(int page, T x) {
+        int idx = search(page, x);
+        if (idx >= 0) {
+            // 重复项，什么也不做
+            return NO_PAGE;
+        }
+        int pos = -idx - 1;
+        int n = count(page);
+        size++;
+        if (n < maxLeafKeys) {
+            insertIntoLeafAt(page, pos, x);
+            return NO_PAGE;
+        }
+
+        // 叶子已满：后一半移到新叶子，并把新叶子接入链表
+        int sibling = allocatePage(LEAF);
+        int mid = n / 2;
+        copyBytes(page, leafKeyOffset(mid), sibling, leafKeyOffset(0), (n - mid) * keyWidth);
+        setCount(sibling, n - mid);
+        setCount(page, mid);
+
+        int next = next(page);
+        setNext(sibling, next);
+        setPrev(sibling, page);
+        if (next != NO_PAGE) {
+            setPrev(next, sibling);
+        }
+        setNext(page, sibling);
+
+        if (pos <= mid) {
+            insertIntoLeafAt(page, pos, x);
+        } else {
+            insertIntoLeafAt(sibling, pos - mid, x);
+        }
+        promoted = key(sibling, 0);
+        return sibling;
+    }
+
+    private void insertIntoLeafAt(int page, int pos, T x) {
+        int n = count(page);
+        moveBytes(page, leafKeyOffset(pos), leafKeyOffset(pos + 1), (n - pos) * keyWidth);
+        writeKey(page, pos, x);
+        setCount(page, n + 1);
+    }
+
+    /**
+     * 在内部节点的第 i 个键的位置插入 key，并把 rightChild 作为第 i + 1 个孩子
+     */
+    private int insertIntoInternal(int page, int i, T key, int rightChild) {
+        int n = count(page);
+        if (n < maxInternalKeys) {
+            insertIntoInternalAt(page, i, key, rightChild);
+            return NO_PAGE;
+        }
+
+        // 内部节点已满：中间的键提升，右边的键和孩子移到新节点
+        int sibling = allocatePage(INTERNAL);
+        int mid = n / 2;
+        T up = key(page, mid);
+        copyBytes(page, internalKeyOffset(mid + 1), sibling, internalKeyOffset(0), (n - mid - 1) * keyWidth);
+        copyBytes(page, childOffset(mid + 1), sibling, childOffset(0), (n - mid) * Integer.BYTES);
+        setCount(sibling, n - mid - 1);
+        setCount(page, mid);
+
+        if (i <= mid) {
+            insertIntoInternalAt(page, i, key, rightChild);
+        } else {
+            insertIntoInternalAt(sibling, i - mid - 1, key, rightChild);
+        }
+        promoted = up;
+        return sibling;
+    }
+
+    private void insertIntoInternalAt(int page, int i, T key, int rightChild) {
+        int n = count(page);
+        moveBytes(page, internalKeyOffset(i), internalKeyOffset(i + 1), (n - i) * keyWidth);
+        moveBytes(page, childOffset(i + 1), childOffset(i + 2), (n - i) * Integer.BYTES);
+        writeKey(page, i, key);
+        setChild(page, i + 1, rightChild);
+        setCount(page, n + 1);
+    }
+
+    /**
+     * 从根下降到 x 所在(或应在)的叶子
+     */
+    private int findLeaf(T x) {
+        int page = root;
+        while (!isLeaf(page)) {
+            int idx = search(page, x);
+            page = child(page, idx >= 0 ? idx + 1 : -idx - 1);
+        }
+        return page;
+    }
+
+    /**
+     * 在节点内二分查找
+     *
+     * @return 与 Arrays.binarySearch 相同: 找到返回下标，否则返回 -(插入点) - 1
+     */
+    private int search(int page, T x) {
+        int lo = 0;
+        int hi = count(page) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int compareResult = x.compareTo(key(page, mid));
+            if (compareResult < 0) {
+                hi = mid - 1;
+            } else if (compareResult > 0) {
+                lo = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    private int allocatePage(byte type) {
+        int page = pageCount++;
+        ByteBuffer segment = segment(page);
+        int base = offset(page);
+        segment.put(base + NODE_TYPE, type);
+        segment.putInt(base + NODE_COUNT, 0);
+        segment.putInt(base + NODE_NEXT, NO_PAGE);
+        segment.putInt(base + NODE_PREV, NO_PAGE);
+        return page;
+    }
+
+    private void doClear() {
+        pageCount = 1;
+        root = allocatePage(LEAF);
+        firstLeaf = root;
+        size = 0;
+        writeMeta();
+    }
+
+    private void writeMeta() {
+        ByteBuffer meta = segment(0);
+        meta.putInt(META_ROOT, root);
+        meta.putInt(META_PAGE_COUNT, pageCount);
+        meta.putInt(META_FIRST_LEAF, firstLeaf);
+        meta.putLong(META_SIZE, size);
+    }
+
+    /**
+     * 获取页所在的映射分段，没有映射过的分段在此时映射(文件随之增长)
+     */
+    private ByteBuffer segment(int page) {
+        if (segments == null) {
+            throw new IllegalStateException("Tree is closed");
+        }
+        int idx = (int) (((long) page * pageSize) >>> SEGMENT_SHIFT);
+        if (idx >= segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(idx + 1, segments.length * 2));
+        }
+        MappedByteBuffer segment = segments[idx];
+        if (segment == null) {
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, (long) idx << SEGMENT_SHIFT, SEGMENT_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segments[idx] = segment;
+        }
+        return segment;
+    }
+
+    /**
+     * 页在分段内的起始偏移
+     */
+    private int offset(int page) {
+        return (int) (((long) page * pageSize) & (SEGMENT_SIZE - 1));
+    }
+
+    private boolean isLeaf(int page) {
+        return segment(page).get(offset(page) + NODE_TYPE) == LEAF;
+    }
+
+    private int count(int page) {
+        return segment(page).getInt(offset(page) + NODE_COUNT);
+    }
+
+    private void setCount(int page, int count) {
+        segment(page).putInt(offset(page) + NODE_COUNT, count);
+    }
+
+    private int next(int page) {
+        return segment(page).getInt(offset(page) + NODE_NEXT);
+    }
+
+    private void setNext(int page, int next) {
+        segment(page).putInt(offset(page) + NODE_NEXT, next);
+    }
+
+    private int prev(int page) {
+        return segment(page).getInt(offset(page) + NODE_PREV);
+    }
+
+    private void setPrev(int page, int prev) {
+        segment(page).putInt(offset(page) + NODE_PREV, prev);
+    }
+
+    private int child(int page, int i) {
+        return segment(page).getInt(offset(page) + childOffset(i));
+    }
+
+    private void setChild(int page, int i, int child) {
+        segment(page).putInt(offset(page) + childOffset(i), child);
+    }
+
+    private T key(int page, int i) {
+        return codec.read(segment(page), offset(page) + keyOffset(page, i));
+    }
+
+    private void writeKey(int page, int i, T key) {
+        codec.write(segment(page), offset(page) + keyOffset(page, i), key);
+    }
+
+    private int keyOffset(int page, int i) {
+        return isLeaf(page) ? leafKeyOffset(i) : internalKeyOffset(i);
+    }
+
+    private int leafKeyOffset(int i) {
+        return NODE_HEADER + i * keyWidth;
+    }
+
+    private int internalKeyOffset(int i) {
+        return internalKeyBase + i * keyWidth;
+    }
+
+    private int childOffset(int i) {
+        return NODE_HEADER + i * Integer.BYTES;
+    }
+
+    /**
+     * 页内移动一段字节，允许区间重叠
+     */
+    private void moveBytes(int page, int from, int to, int length) {
+        copyBytes(page, from, page, to, length);
+    }
+
+    private void copyBytes(int srcPage, int from, int dstPage, int to, int length) {
+        if (length <= 0) {
+            return;
+        }
+        ByteBuffer src = segment(srcPage).duplicate();
+        src.position(offset(srcPage) + from);
+        src.get(scratch, 0, length);
+        ByteBuffer dst = segment(dstPage).duplicate();
+        dst.position(offset(dstPage) + to);
+        dst.put(scratch, 0, length);
+    }
+}
@@ -1,7 +1,15 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.exceptions.UnderFlowException;
-import com.zss.structures.tree.inter.Tree;
+import com.zss.structures.tree.inter.Instrumented;
+import com.zss.structures.tree.inter.OrderedTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * @author ZSS
@@ -12,43 +20,151 @@ import com.zss.structures.tree.inter.Tree;
  * 2. 根是黑色
  * 3. 如果一个节点是红色的，那么它的子节点必须是黑色的 -- 不能有连续的红节点
  * 4. 从一个节点到一个null引用的每一条路劲必须包含相同数目的黑色节点
+ * 插入和删除的遍历状态都保存在局部变量中，也不会写 nullNode，所以读操作不会被写操作中途的状态干扰。
+ * 由 concurrent() 创建的树可以被多个线程共享：写操作之间通过 StampedLock 的写锁串行执行；
+ * 读操作先做乐观读，不加锁直接下降，结束后校验期间没有写操作发生，校验失败才加读锁重新执行一次。
  */
 @SuppressWarnings("unused")
-public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
+public class RedBlackTree<T extends Comparable<? super T>> implements OrderedTree<T>, Instrumented {
 
     private final RedBlackNode<T> header;
     private final RedBlackNode<T> nullNode;
 
+    private final TreeMetrics metrics = TreeMetrics.create("RedBlackTree");
+
+    /**
+     * 并发模式下的锁，普通模式为 null
+     */
+    private final StampedLock lock;
+
     private static final int BLACK = 1;
     private static final int RED = 0;
 
+    /**
+     * 乐观读最多下降的层数：红黑树的高度不超过 2log(N+1)，超过这个层数说明读到了写操作中途的状态
+     */
+    private static final int MAX_HEIGHT = 2 * Integer.SIZE;
+
+    /**
+     * 乐观读读到不一致的状态时 search 的返回值
+     */
+    private static final Object RETRY = new Object();
+
+    /**
+     * search 的查找方式
+     */
+    private static final int EQUAL = 0;
+    private static final int FLOOR = 1;
+    private static final int CEILING = 2;
+    private static final int LOWER = 3;
+    private static final int HIGHER = 4;
+    private static final int MIN = 5;
+    private static final int MAX = 6;
+
     /**
      * construct the tree
      */
-    RedBlackTree() {
+    public RedBlackTree() {
+        this(null);
+    }
+
+    private RedBlackTree(StampedLock lock) {
+        this.lock = lock;
         nullNode = new RedBlackNode<>(null);
         nullNode.left = nullNode.right = nullNode;
         header = new RedBlackNode<>(null);
         header.left = header.right = nullNode;
     }
 
+    /**
+     * 创建一棵可以被多个线程共享的红黑树：写操作串行执行，读操作不阻塞(乐观读失败时才加读锁)。
+     * 迭代器和 range 返回加读锁时拍下的快照。开启统计时，只统计写操作
+     *
+     * @param <T> anyType
+     * @return tree
+     */
+    public static <T extends Comparable<? super T>> RedBlackTree<T> concurrent() {
+        return new RedBlackTree<>(new StampedLock());
+    }
+
+    /**
+     * 由有序数组构建红黑树 -- O(N)
+     *
+     * @param sorted 严格递增的数组
+     * @param <T>    anyType
+     * @return tree
+     */
+    public static <T extends Comparable<? super T>> RedBlackTree<T> buildFromSorted(T[] sorted) {
+        return buildFromSorted(Arrays.asList(sorted).iterator(), sorted.length);
+    }
+
+    /**
+     * 由有序序列构建红黑树 -- O(N)，每个元素只读取一次，不做任何旋转和颜色翻转。
+     * 构建出的树是完全平衡的：除最深一层以外全部为黑色，最深一层(若不满)为红色
+     *
+     * @param sorted 严格递增的序列
+     * @param size   序列中元素的个数
+     * @param <T>    anyType
+     * @return tree
+     */
+    public static <T extends Comparable<? super T>> RedBlackTree<T> buildFromSorted(Iterator<? extends T> sorted, int size) {
+        RedBlackTree<T> tree = new RedBlackTree<>();
+        tree.header.right = tree.build(0, 0, size - 1, redLevel(size), new AscendingIterator<>(sorted));
+        return tree;
+    }
+
     @Override
     public void makeEmpty() {
-        header.right = nullNode;
+        if (lock == null) {
+            header.right = nullNode;
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            header.right = nullNode;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     @Override
     public boolean isEmpty() {
-        return header.right == nullNode;
+        if (lock == null) {
+            return header.right == nullNode;
+        }
+        long stamp = lock.tryOptimisticRead();
+        boolean empty = header.right == nullNode;
+        if (stamp != 0L && lock.validate(stamp)) {
+            return empty;
+        }
+        stamp = lock.readLock();
+        try {
+            return header.right == nullNode;
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public boolean contains(T x) {
-        return contains(x, header.right);
+        if (lock != null) {
+            return read(x, EQUAL) != null;
+        }
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return contains(x, header.right);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.CONTAINS, start);
+            }
+        }
     }
 
     @Override
     public T findMin() throws UnderFlowException {
+        if (lock != null) {
+            return nonEmpty(read(null, MIN));
+        }
         if (isEmpty()) {
             throw new UnderFlowException("Empty tree!!!");
         }
@@ -57,153 +173,173 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
 
     @Override
     public T findMax() throws UnderFlowException {
+        if (lock != null) {
+            return nonEmpty(read(null, MAX));
+        }
         if (isEmpty()) {
             throw new UnderFlowException("Empty tree!!!");
         }
         return findMax(header.right).element;
     }
 
-    /**
-     * 仅用于插入方法及其助手
-     * current: 当前节点
-     * parent: 父节点
-     * grand: 祖父节点
-     * great: 曾祖父节点
-     */
-    private RedBlackNode<T> current;
-    private RedBlackNode<T> parent;
-    private RedBlackNode<T> grand;
-    private RedBlackNode<T> great;
-
     @Override
-    public void insert(T item) {
-        current = parent = grand = header;
-        nullNode.element = item;
-
-        // 在所有空节点都为nullNode（且nullNode.ele = item）的前提下
-        // 依据左小右大的规则，一路找到对应的nullNode
-        while (compare(item, current) != 0) {
-            great = grand;
-            grand = parent;
-            parent = current;
-
-            // 左小右大: left or right
-            // 只有插入第一个节点的时候才会出现相等的情况
-            // 而之所以插入第一个节点能够走到此处，是因为compare方法里面排除了current = header的情况
-            current = compare(item, current) < 0 ? current.left : current.right;
-
-            // 检查是否有两个红色的孩子； 如果是则翻转
-            // 保证插入节点的父节点为黑色， 因为插入节点必为红色；此动作是为了避免违反红黑树第4条件
-            if (current.left.color == RED && current.right.color == RED) {
-                handleReorient(item);
-            }
+    public boolean insert(T item) {
+        if (lock == null) {
+            return insertTopDown(item);
         }
-
-        // 如果已经存在则插入失败
-        if (current != nullNode) {
-            return;
+        long stamp = lock.writeLock();
+        try {
+            return insertTopDown(item);
+        } finally {
+            lock.unlockWrite(stamp);
         }
+    }
 
-        current = new RedBlackNode<>(item, nullNode, nullNode);
-
-        // 附加到父级
-        // 当parent为header时，此时为插入第一个节点，compare的结果为1，将第一个节点插入header.right
-        // 也就造成header.right才是真正的根节点
-        // 若要让header.left为真正的根节点，只需将 Line 190改为: return -1，且Line 219 改为: header.left.color = BLACK
-        if (compare(item, parent) < 0) {
-            parent.left = current;
-        } else {
-            parent.right = current;
+    /**
+     * 自顶向下删除：一次下降完成查找、调整颜色和摘除后继，不再先调用 contains，也不再从根开始删除后继
+     */
+    @Override
+    public boolean remove(T x) {
+        if (lock == null) {
+            return removeTopDown(x, false) != null;
+        }
+        long stamp = lock.writeLock();
+        try {
+            return removeTopDown(x, false) != null;
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        // 为了不破坏条件4，必须将插入的节点置红，保证其儿子为黑
-        handleReorient(item);
     }
 
-
     /**
-     * 仅用于删除方法及其助手
-     * bro: 兄弟节点
+     * 删除并返回最小项，只沿最左侧的路径下降一次，不做任何比较
+     *
+     * @return 最小项
+     * @throws UnderFlowException 空树
      */
-    private RedBlackNode<T> bro;
+    public T removeMin() throws UnderFlowException {
+        if (lock == null) {
+            return nonEmpty(removeTopDown(null, true));
+        }
+        long stamp = lock.writeLock();
+        try {
+            return nonEmpty(removeTopDown(null, true));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
 
     @Override
-    public void remove(T x) {
-        if (isEmpty()) {
-            System.out.println("Empty Tree, what do you want?");
-            return;
+    public T floor(T x) {
+        if (lock != null) {
+            return read(x, FLOOR);
         }
-        // 确定有才正式执行删除操作
-        if (!contains(x)) {
-            System.out.println("There is nothing you can delete!!!");
-            return;
+        T best = null;
+        RedBlackNode<T> t = header.right;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
         }
-        header.right.color = RED;
-        // start ---------------------
-        parent = grand = header;
-        current = header.right;
-        bro = header.left;
-
-        while (compare(x, current) != 0) {
-            if (isBlack(current.left) && isBlack(current.right)) {
-                /*
-                    当前节点C有两个黑儿子，则此时有三种情况
-                    1. bro也有两个黑儿子，则直接翻转 c, p, bro的颜色
-                    2. 如果bro的儿子之一是红儿子，那么根据这个儿子节点是哪一个，分别进行不同的旋转操作
-                    注：无需考虑叶子节点，因为nullNode节点默认是黑色
-                */
-                if (isBlack(bro.left) && isBlack(bro.right)) {
-                    parent.color = RED;
-                    current.color = BLACK;
-                    bro.color = BLACK;
-                } else if (isBlack(bro.left) || isBlack(bro.right)) {
-                    rotateByColor(x);
-                }
-                // 当前节点下移
-                toTheNext(x);
-            } else if (isBlack(current.left) || isBlack(current.right)) {
-                /*
-                    当前节点C的儿子之一是红色的，在这种情况下，落到下一层，得到新的c, bro, p; 此时有两种情况:
-                    1. 如果C恰好落到红儿子，则 toTheNext
-                    2. 如果不是这样，则此时bro必为红色，同样的c和p是黑色，此时需要旋转bro和p，并且翻转两者的颜色，
-                        使得c的新父亲是红色的。理所当然的, c及其祖父将是黑色的。
-                 */
-                toTheNext(x);
-                if (isBlack(current)) {
-                    rotateSingle();
-                }
+        return best;
+    }
+
+    @Override
+    public T ceiling(T x) {
+        if (lock != null) {
+            return read(x, CEILING);
+        }
+        T best = null;
+        RedBlackNode<T> t = header.right;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                best = t.element;
+                t = t.left;
             } else {
-                // 当前节点c的两个儿子为红色，则 toTheNext
-                toTheNext(x);
+                t = t.right;
             }
         }
-        /*
-            当c.ele == x的时候，判断左右子树的情况
-            1. 如果左子树和右子树都为nullNode，在直接删除: c = nullNode;
-            2. 如果左子树为nullNode，则 c = c.right;
-            3. 如果右子树为nullNode, 则 c = c.left;
-            4. 如果左右子树都不为nullNode，则获取右子树最小的节点替换c，同时删除该节点。
-         */
-        if (current.left != nullNode && current.right != nullNode) {
-            T ele = findMin(current.right).element;
-            // 此处需要将c暂存，防止丢失
-            RedBlackNode<T> temp = current;
-            // todo 考虑实现一个方法，删除右树最小， 比如 removeMin(current.right);
-            remove(ele);
-            temp.element = ele;
-        } else {
-            if (compare(current.element, parent) < 0) {
-                parent.left = (current.left != nullNode) ? current.left : current.right;
+        return best;
+    }
+
+    @Override
+    public T lower(T x) {
+        if (lock != null) {
+            return read(x, LOWER);
+        }
+        T best = null;
+        RedBlackNode<T> t = header.right;
+        while (t != nullNode) {
+            if (compare(x, t.element) <= 0) {
+                t = t.left;
             } else {
-                parent.right = (current.left != nullNode) ? current.left : current.right;
+                best = t.element;
+                t = t.right;
             }
         }
-        // end ---------------------
-        header.right.color = BLACK;
+        return best;
+    }
+
+    @Override
+    public T higher(T x) {
+        if (lock != null) {
+            return read(x, HIGHER);
+        }
+        T best = null;
+        RedBlackNode<T> t = header.right;
+        while (t != nullNode) {
+            if (compare(x, t.element) < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Iterable<T> range(T lo, T hi) {
+        return () -> lock == null ? new TreeIterator(lo, hi) : snapshot(lo, hi);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return lock == null ? new TreeIterator(null, null) : snapshot(null, null);
     }
 
     @Override
     public void printTree() {
-        if (isEmpty()) {
+        if (lock == null) {
+            doPrintTree();
+            return;
+        }
+        long stamp = lock.readLock();
+        try {
+            doPrintTree();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public TreeMetrics metrics() {
+        return metrics;
+    }
+
+    // ================= 私有方法 ==================== //
+
+    private void doPrintTree() {
+        if (header.right == nullNode) {
             System.out.println("Empty tree");
         } else {
             System.out.println("========== Start print tree ==========");
@@ -214,7 +350,108 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         }
     }
 
-    // ================= 私有方法 ==================== //
+    /**
+     * 比较两个数据项，开启统计时计数
+     */
+    private int compare(T x, T y) {
+        if (TreeMetrics.ENABLED) {
+            metrics.comparison();
+        }
+        return x.compareTo(y);
+    }
+
+    /**
+     * 并发模式下的读操作：先乐观读，读到不一致的状态、比较时抛出异常或者校验失败时加读锁重新执行
+     *
+     * @param x    查找的项
+     * @param mode 查找方式
+     * @return 结果，没有返回 null
+     */
+    @SuppressWarnings("unchecked")
+    private T read(T x, int mode) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            Object result;
+            try {
+                result = search(x, mode);
+            } catch (RuntimeException e) {
+                // 乐观读期间读到的数据项可能还没有初始化完，compareTo 抛出的异常不可信，加读锁重试
+                result = RETRY;
+            }
+            if (result != RETRY && lock.validate(stamp)) {
+                return (T) result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return (T) search(x, mode);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 并发模式下读操作的下降过程，不调用统计，比较次数也不计入。
+     * 乐观读时可能读到写操作中途的状态：刚链入还没有初始化完的节点(字段为 null)，旋转到一半的环，
+     * 遇到这些情况返回 RETRY，由调用者加读锁重试
+     *
+     * @param x    查找的项，MIN 和 MAX 时不使用
+     * @param mode 查找方式
+     * @return 结果、null 或 RETRY
+     */
+    private Object search(T x, int mode) {
+        T best = null;
+        RedBlackNode<T> t = header.right;
+        for (int height = 0; t != nullNode; height++) {
+            if (t == null || height > MAX_HEIGHT) {
+                return RETRY;
+            }
+            T element = t.element;
+            if (element == null) {
+                return RETRY;
+            }
+            int compareResult = mode == MIN ? -1 : mode == MAX ? 1 : x.compareTo(element);
+            if (compareResult == 0 && (mode == EQUAL || mode == FLOOR || mode == CEILING)) {
+                return element;
+            }
+            if (compareResult < 0 || (compareResult == 0 && mode == LOWER)) {
+                if (mode == CEILING || mode == HIGHER || mode == MIN) {
+                    best = element;
+                }
+                t = t.left;
+            } else {
+                if (mode == FLOOR || mode == LOWER || mode == MAX) {
+                    best = element;
+                }
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 并发模式下的迭代：加读锁拍下 [lo, hi] 的快照
+     */
+    private Iterator<T> snapshot(T lo, T hi) {
+        List<T> elements = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            new TreeIterator(lo, hi).forEachRemaining(elements::add);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return Collections.unmodifiableList(elements).iterator();
+    }
+
+    /**
+     * 空树时的结果为 null，此时抛出异常
+     */
+    private T nonEmpty(T result) throws UnderFlowException {
+        if (result == null) {
+            throw new UnderFlowException("Empty tree!!!");
+        }
+        return result;
+    }
 
     /**
      * 如果树T中存在含有项X的系欸但，那么返回true，否则返回false
@@ -226,7 +463,10 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         if (t == nullNode) {
             return false;
         }
-        int compareResult = x.compareTo(t.element);
+        if (TreeMetrics.ENABLED) {
+            metrics.visit();
+        }
+        int compareResult = compare(x, t.element);
         if (compareResult < 0) {
             // 如果目标值小于当前项值，则继续遍历左子树
             return contains(x, t.left);
@@ -240,25 +480,222 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
     }
 
     /**
-     * 是否为黑节点
+     * 自顶向下插入：下降途中遇到有两个红孩子的节点就翻转颜色，必要时旋转。
+     * current: 当前节点，parent: 父节点，grand: 祖父节点，great: 曾祖父节点，全部是局部变量
      *
-     * @param t 当前节点
-     * @return yes or no
+     * @param item 需要插入的项
+     * @return 是否插入成功，已存在返回 false
      */
-    private boolean isBlack(RedBlackNode<T> t) {
-        return t.color == BLACK;
+    private boolean insertTopDown(T item) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            RedBlackNode<T> current = header;
+            RedBlackNode<T> parent = header;
+            RedBlackNode<T> grand = header;
+            RedBlackNode<T> great = header;
+
+            // 依据左小右大的规则，一路找到对应的nullNode，或者找到相同的项
+            int compareResult = compare(item, current);
+            while (compareResult != 0) {
+                if (TreeMetrics.ENABLED) {
+                    metrics.visit();
+                }
+                great = grand;
+                grand = parent;
+                parent = current;
+
+                // 左小右大: left or right
+                // compare方法里面排除了current = header的情况，所以第一个节点总是走到header.right
+                current = compareResult < 0 ? current.left : current.right;
+                if (current == nullNode) {
+                    break;
+                }
+
+                // 检查是否有两个红色的孩子； 如果是则翻转
+                // 保证插入节点的父节点为黑色， 因为插入节点必为红色；此动作是为了避免违反红黑树第4条件
+                if (current.left.color == RED && current.right.color == RED) {
+                    RedBlackNode<T> top = handleReorient(item, current, parent, grand, great);
+                    if (top != null) {
+                        // 旋转之后 top 顶替了原来的位置，它同时是新的 current 和 parent
+                        current = parent = top;
+                    }
+                }
+                compareResult = compare(item, current);
+            }
+
+            // 如果已经存在则插入失败
+            if (current != nullNode) {
+                return false;
+            }
+
+            current = new RedBlackNode<>(item, nullNode, nullNode);
+
+            // 附加到父级
+            // 当parent为header时，此时为插入第一个节点，compare的结果为1，将第一个节点插入header.right
+            // 也就造成header.right才是真正的根节点
+            if (compare(item, parent) < 0) {
+                parent.left = current;
+            } else {
+                parent.right = current;
+            }
+            // 为了不破坏条件4，必须将插入的节点置红，保证其儿子为黑
+            handleReorient(item, current, parent, grand, great);
+            return true;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.INSERT, start);
+            }
+        }
+    }
+
+    /**
+     * 自顶向下删除，与 ArrayRedBlackTree.remove 是同一个算法。
+     * 下降过程中保证 q 或它将要进入的孩子是红色，这样到达底部时摘除的节点一定是红色，不会破坏条件4。
+     * 匹配到 x 之后向右走一步，接下来就是删除右子树的最小项：一路向左，不再比较，最终停在后继节点上，
+     * 用后继的数据项替换匹配节点，然后摘除后继。removeMin 为 true 时从根开始就一路向左，即删除整棵树的最小项。
+     *
+     * @param x         需要删除的项，removeMin 为 true 时不使用
+     * @param removeMin 是否删除最小项
+     * @return 被删除的项，不存在返回 null
+     */
+    private T removeTopDown(T x, boolean removeMin) {
+        if (header.right == nullNode) {
+            return null;
+        }
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            RedBlackNode<T> g = nullNode;
+            RedBlackNode<T> p = nullNode;
+            RedBlackNode<T> q = header;
+            RedBlackNode<T> found = nullNode;
+            // 是否已经进入 removeMin 阶段: 之后只向左走
+            boolean minOnly = removeMin;
+            boolean toRight = true;
+
+            while (child(q, toRight) != nullNode) {
+                if (TreeMetrics.ENABLED) {
+                    metrics.visit();
+                }
+                boolean last = toRight;
+                g = p;
+                p = q;
+                q = child(q, toRight);
+
+                if (minOnly) {
+                    toRight = false;
+                } else {
+                    int compareResult = compare(x, q.element);
+                    toRight = compareResult >= 0;
+                    if (compareResult == 0) {
+                        found = q;
+                        minOnly = true;
+                    }
+                }
+
+                // q 和下一步要进入的孩子都是黑色时，需要把红色“推”下来
+                if (isBlack(q) && isBlack(child(q, toRight))) {
+                    if (!isBlack(child(q, !toRight))) {
+                        // 另一个孩子是红色：旋转上来，q 成为红色节点的孩子，而且自身变红
+                        RedBlackNode<T> r = rotateForRemove(q, toRight);
+                        setChild(p, last, r);
+                        p = r;
+                    } else {
+                        RedBlackNode<T> s = child(p, !last);
+                        if (s != nullNode) {
+                            if (isBlack(child(s, !last)) && isBlack(child(s, last))) {
+                                // 兄弟的两个孩子都是黑色：颜色翻转
+                                if (TreeMetrics.ENABLED) {
+                                    metrics.colorFlip();
+                                }
+                                p.color = BLACK;
+                                s.color = RED;
+                                q.color = RED;
+                            } else {
+                                // 兄弟有红孩子：单旋转或双旋转
+                                boolean parentOnRight = g.right == p;
+                                if (!isBlack(child(s, last))) {
+                                    setChild(p, !last, rotateForRemove(s, !last));
+                                }
+                                RedBlackNode<T> r = rotateForRemove(p, last);
+                                setChild(g, parentOnRight, r);
+                                q.color = RED;
+                                r.color = RED;
+                                r.left.color = BLACK;
+                                r.right.color = BLACK;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (removeMin) {
+                // 删除最小项时，停下的节点就是要删除的节点
+                found = q;
+            }
+            T removed = null;
+            if (found != nullNode) {
+                // q 是后继(或者匹配节点自身)，此时它是红色的(或者是唯一的根)，可以直接摘除
+                removed = found.element;
+                found.element = q.element;
+                setChild(p, p.right == q, q.left == nullNode ? q.right : q.left);
+            }
+            header.right.color = BLACK;
+            nullNode.color = BLACK;
+            return removed;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.REMOVE, start);
+            }
+        }
+    }
+
+    /**
+     * 按中序依次消费 it，构建由下标 [lo, hi] 组成的子树
+     *
+     * @param level    当前深度，根为 0
+     * @param lo       起始下标
+     * @param hi       结束下标
+     * @param redLevel 该深度上的节点染成红色
+     * @param it       有序序列
+     * @return 子树的根
+     */
+    private RedBlackNode<T> build(int level, int lo, int hi, int redLevel, Iterator<T> it) {
+        if (hi < lo) {
+            return nullNode;
+        }
+        int mid = (lo + hi) >>> 1;
+        RedBlackNode<T> left = build(level + 1, lo, mid - 1, redLevel, it);
+        RedBlackNode<T> t = new RedBlackNode<>(it.next(), left, nullNode);
+        if (level == redLevel) {
+            t.color = RED;
+        }
+        t.right = build(level + 1, mid + 1, hi, redLevel, it);
+        return t;
+    }
+
+    /**
+     * 计算完全平衡的树中最深一层的深度：只有这一层可能不满，将它染红即可使每条路径的黑色节点数相同。
+     * 当树是满的时候，返回值比最深一层还深，于是没有红色节点
+     *
+     * @param size 节点个数
+     * @return 深度
+     */
+    private static int redLevel(int size) {
+        int level = 0;
+        for (int m = size - 1; m >= 0; m = m / 2 - 1) {
+            level++;
+        }
+        return level;
     }
 
     /**
-     * 落至下一层
+     * 是否为黑节点
      *
-     * @param x element
+     * @param t 当前节点
+     * @return yes or no
      */
-    private void toTheNext(T x) {
-        grand = parent;
-        parent = current;
-        bro = compare(x, current) < 0 ? current.right : current.left;
-        current = compare(x, current) < 0 ? current.left : current.right;
+    private boolean isBlack(RedBlackNode<T> t) {
+        return t.color == BLACK;
     }
 
     /**
@@ -282,60 +719,31 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         }
     }
 
-    /**
-     * 根据颜色进行旋转
-     *
-     * @param item 比较项
-     */
-    private void rotateByColor(T item) {
-        if (compare(bro.element, parent) < 0) {
-            // bro是左孩子
-            if (isBlack(bro.right)) {
-                bro.left.color = BLACK;
-                bro.color = RED;
-            } else {
-                parent.left = rotateWithRightChild(parent.left);
-            }
-            if (compare(parent.element, grand) > 0) {
-                grand.right = rotateWithLeftChild(parent);
-            } else {
-                grand.left = rotateWithLeftChild(parent);
-            }
+    private RedBlackNode<T> child(RedBlackNode<T> t, boolean toRight) {
+        return toRight ? t.right : t.left;
+    }
+
+    private void setChild(RedBlackNode<T> t, boolean toRight, RedBlackNode<T> c) {
+        if (toRight) {
+            t.right = c;
         } else {
-            // bro是右孩子
-            if (isBlack(bro.left)) {
-                bro.right.color = BLACK;
-                bro.color = RED;
-            } else {
-                parent.right = rotateWithLeftChild(parent.right);
-            }
-            if (compare(parent.element, grand) < 0) {
-                grand.left = rotateWithRightChild(parent);
-            } else {
-                grand.right = rotateWithRightChild(parent);
-            }
+            t.left = c;
         }
-        parent.color = BLACK;
-        current.color = RED;
     }
 
     /**
-     * 兄弟节点和父节点进行旋转
+     * 删除使用的单旋转: toRight 为 true 时左孩子上升(右旋)，否则右孩子上升(左旋)。
+     * 旋转后原根变红，新根变黑
+     *
+     * @param t       旋转子树的根
+     * @param toRight 旋转方向
+     * @return 新的根
      */
-    private void rotateSingle() {
-        if (compare(bro.element, parent) < 0) {
-            if (compare(parent.element, grand) < 0) {
-                grand.left = rotateWithLeftChild(grand.left);
-            } else {
-                grand.right = rotateWithLeftChild(grand.right);
-            }
-        } else {
-            if (compare(parent.element, grand) > 0) {
-                grand.right = rotateWithRightChild(grand.right);
-            } else {
-                grand.left = rotateWithRightChild(grand.left);
-            }
-        }
+    private RedBlackNode<T> rotateForRemove(RedBlackNode<T> t, boolean toRight) {
+        RedBlackNode<T> k = toRight ? rotateWithLeftChild(t) : rotateWithRightChild(t);
+        t.color = RED;
+        k.color = BLACK;
+        return k;
     }
 
     /**
@@ -347,7 +755,7 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         if (t == header) {
             return 1;
         } else {
-            return item.compareTo(t.element);
+            return compare(item, t.element);
         }
     }
 
@@ -355,28 +763,39 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
      * 如果节点有两个红色子节点，则在插入期间调用的内部方法。
      * 执行红黑翻转和旋转
      *
-     * @param item 被插入的项目
+     * @param item    被插入的项目
+     * @param current 当前节点
+     * @param parent  父节点
+     * @param grand   祖父节点
+     * @param great   曾祖父节点
+     * @return 发生旋转时返回旋转后子树的根，否则返回 null
      */
-    private void handleReorient(T item) {
+    private RedBlackNode<T> handleReorient(T item, RedBlackNode<T> current, RedBlackNode<T> parent,
+                                           RedBlackNode<T> grand, RedBlackNode<T> great) {
         // 颜色翻转
+        if (TreeMetrics.ENABLED) {
+            metrics.colorFlip();
+        }
         current.color = RED;
         current.left.color = BLACK;
         current.right.color = BLACK;
 
         // 为了不破坏条件3，在出现父节点也是RED的情况下，需要做旋转
+        RedBlackNode<T> top = null;
         if (parent.color == RED) {
             // 必须旋转
             grand.color = RED;
             if ((compare(item, grand) < 0) != (compare(item, parent) < 0)) {
                 // 判断是否需要执行双旋转
-                parent = rotate(item, grand);
+                rotate(item, grand);
             }
             // 进行左旋或者右旋
-            current = rotate(item, great);
-            current.color = BLACK;
+            top = rotate(item, great);
+            top.color = BLACK;
         }
         // 根节点置黑，保证根节点为黑色
         header.right.color = BLACK;
+        return top;
     }
 
     /**
@@ -386,6 +805,9 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private RedBlackNode<T> rotateWithLeftChild(RedBlackNode<T> k2) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         RedBlackNode<T> k1 = k2.left;
         k2.left = k1.right;
         k1.right = k2;
@@ -399,6 +821,9 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private RedBlackNode<T> rotateWithRightChild(RedBlackNode<T> k1) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         RedBlackNode<T> k2 = k1.right;
         k1.right = k2.left;
         k2.left = k1;
@@ -430,6 +855,33 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         return t;
     }
 
+    /**
+     * 校验红黑树的性质：根是黑色、没有连续的红节点、每条路径上的黑色节点数相同。
+     * 仅供测试使用，并发模式下调用者需要保证此时没有写操作
+     *
+     * @return 黑高(不含 nullNode)
+     */
+    int checkInvariants() {
+        if (!isBlack(nullNode) || !isBlack(header.right)) {
+            throw new IllegalStateException("Root or null node is red");
+        }
+        return blackHeight(header.right);
+    }
+
+    private int blackHeight(RedBlackNode<T> t) {
+        if (t == nullNode) {
+            return 0;
+        }
+        if (!isBlack(t) && (!isBlack(t.left) || !isBlack(t.right))) {
+            throw new IllegalStateException("Red node " + t.element + " has a red child");
+        }
+        int leftHeight = blackHeight(t.left);
+        if (leftHeight != blackHeight(t.right)) {
+            throw new IllegalStateException("Black height differs below " + t.element);
+        }
+        return leftHeight + (isBlack(t) ? 1 : 0);
+    }
+
     /**
      * 打印二叉树
      *
@@ -443,6 +895,36 @@ public class RedBlackTree<T extends Comparable<? super T>> implements Tree<T> {
         }
     }
 
+    /**
+     * 中序迭代器
+     */
+    private class TreeIterator extends InOrderIterator<RedBlackNode<T>, T> {
+
+        TreeIterator(T lo, T hi) {
+            start(header.right, lo, hi);
+        }
+
+        @Override
+        protected RedBlackNode<T> left(RedBlackNode<T> t) {
+            return t.left;
+        }
+
+        @Override
+        protected RedBlackNode<T> right(RedBlackNode<T> t) {
+            return t.right;
+        }
+
+        @Override
+        protected T element(RedBlackNode<T> t) {
+            return t.element;
+        }
+
+        @Override
+        protected boolean isNil(RedBlackNode<T> t) {
+            return t == nullNode;
+        }
+    }
+
     /**
      * 红黑树节点
      *
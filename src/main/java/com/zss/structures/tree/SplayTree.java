@@ -1,7 +1,10 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.exceptions.UnderFlowException;
-import com.zss.structures.tree.inter.Tree;
+import com.zss.structures.tree.inter.Instrumented;
+import com.zss.structures.tree.inter.OrderedTree;
+
+import java.util.Iterator;
 
 /**
  * @author ZSS
@@ -9,9 +12,11 @@ import com.zss.structures.tree.inter.Tree;
  * @desc 伸展树
  */
 @SuppressWarnings("unused")
-public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
+public class SplayTree<T extends Comparable<? super T>> implements OrderedTree<T>, Instrumented {
 
     private BinaryNode<T> root;
+
+    private final TreeMetrics metrics = TreeMetrics.create("SplayTree");
     private final BinaryNode<T> nullNode;
     /**
      * for splay
@@ -40,7 +45,14 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
 
     @Override
     public boolean contains(T x) {
-        return contains(x, root);
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            return contains(x, root);
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.CONTAINS, start);
+            }
+        }
     }
 
     @Override
@@ -60,56 +72,152 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
     }
 
     @Override
-    public void insert(T x) {
-        if (newNode == null) {
-            newNode = new BinaryNode<>(null);
-        }
-        newNode.element = x;
+    public boolean insert(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            if (newNode == null) {
+                newNode = new BinaryNode<>(null);
+            }
+            newNode.element = x;
 
-        if (root == nullNode) {
-            newNode.left = newNode.right = nullNode;
-            root = newNode;
-        } else {
-            root = splay(x, root);
-            if (x.compareTo(root.element) < 0) {
-                newNode.left = root.left;
-                newNode.right = root;
-                root.left = nullNode;
-                root = newNode;
-            } else if (x.compareTo(root.element) > 0) {
-                newNode.right = root.right;
-                newNode.left = root;
-                root.right = nullNode;
+            if (root == nullNode) {
+                newNode.left = newNode.right = nullNode;
                 root = newNode;
             } else {
-                // 没有重复
-                return;
+                root = splay(x, root);
+                if (compare(x, root.element) < 0) {
+                    newNode.left = root.left;
+                    newNode.right = root;
+                    root.left = nullNode;
+                    root = newNode;
+                } else if (compare(x, root.element) > 0) {
+                    newNode.right = root.right;
+                    newNode.left = root;
+                    root.right = nullNode;
+                    root = newNode;
+                } else {
+                    // 没有重复
+                    return false;
+                }
             }
             // 下一次插入将需要new
             newNode = null;
+            return true;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.INSERT, start);
+            }
         }
     }
 
     @Override
-    public void remove(T x) {
-        BinaryNode<T> newTree;
+    public boolean remove(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            BinaryNode<T> newTree;
 
-        // 如果x找到，那么x必将是根
-        if (!contains(x)) {
-            // 未找到目标项， 啥都不用干
-            return;
+            if (isEmpty()) {
+                return false;
+            }
+            // 如果x找到，那么x必将是根
+            root = splay(x, root);
+            if (compare(x, root.element) != 0) {
+                // 未找到目标项， 啥都不用干
+                return false;
+            }
+
+            if (root.left == nullNode){
+                newTree = root.right;
+            } else {
+                // 在左子树中找到最大值
+                // 将其展开到根部，然后附加右孩子
+                newTree = root.left;
+                newTree = splay(x, newTree);
+                newTree.right = root.right;
+            }
+            root = newTree;
+            return true;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.REMOVE, start);
+            }
         }
+    }
 
-        if (root.left == nullNode){
-            newTree = root.right;
-        } else {
-            // 在左子树中找到最大值
-            // 将其展开到根部，然后附加右孩子
-            newTree = root.left;
-            newTree = splay(x, newTree);
-            newTree.right = root.right;
+    @Override
+    public T floor(T x) {
+        T best = null;
+        BinaryNode<T> t = root;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T ceiling(T x) {
+        T best = null;
+        BinaryNode<T> t = root;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T lower(T x) {
+        T best = null;
+        BinaryNode<T> t = root;
+        while (t != nullNode) {
+            if (compare(x, t.element) <= 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T higher(T x) {
+        T best = null;
+        BinaryNode<T> t = root;
+        while (t != nullNode) {
+            if (compare(x, t.element) < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
         }
-        root = newTree;
+        return best;
+    }
+
+    @Override
+    public Iterable<T> range(T lo, T hi) {
+        return () -> new TreeIterator(lo, hi);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator(null, null);
     }
 
     @Override
@@ -123,8 +231,23 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
         }
     }
 
+    @Override
+    public TreeMetrics metrics() {
+        return metrics;
+    }
+
     // ================= 私有方法 ==================== //
 
+    /**
+     * 比较两个数据项，开启统计时计数
+     */
+    private int compare(T x, T y) {
+        if (TreeMetrics.ENABLED) {
+            metrics.comparison();
+        }
+        return x.compareTo(y);
+    }
+
     /**
      * 执行自上而下展开的内部方法。最后访问的节点成为新的根
      *
@@ -142,24 +265,33 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
         nullNode.element = x;
 
         for (; ; ) {
-            if (x.compareTo(t.element) < 0) {
-                if (x.compareTo(t.left.element) < 0) {
+            if (TreeMetrics.ENABLED) {
+                metrics.visit();
+            }
+            if (compare(x, t.element) < 0) {
+                if (compare(x, t.left.element) < 0) {
                     t = rotateWithLeftChild(t);
                 }
                 if (t.left == nullNode) {
                     break;
                 }
+                if (TreeMetrics.ENABLED) {
+                    metrics.splayStep();
+                }
                 // Link Right
                 rightTreeMin.left = t;
                 rightTreeMin = t;
                 t = t.left;
-            } else if (x.compareTo(t.element) > 0) {
-                if (x.compareTo(t.right.element) > 0) {
+            } else if (compare(x, t.element) > 0) {
+                if (compare(x, t.right.element) > 0) {
                     t = rotateWithRightChild(t);
                 }
                 if (t.right == nullNode) {
                     break;
                 }
+                if (TreeMetrics.ENABLED) {
+                    metrics.splayStep();
+                }
                 // Link Left
                 leftTreeMax.right = t;
                 leftTreeMax = t;
@@ -177,25 +309,29 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
 
     /**
      * 如果树T中存在含有项X的系欸但，那么返回true，否则返回false
+     * 使用循环而不是递归：顺序插入后树是一条长度为 N 的链，递归深度等于节点数，会导致栈溢出
      *
      * @param x 需要查找的项
      * @param t 以当前节点为根节点
      */
     private boolean contains(T x, BinaryNode<T> t) {
-        if (t == null) {
-            return false;
-        }
-        int compareResult = x.compareTo(t.element);
-        if (compareResult < 0) {
-            // 如果目标值小于当前项值，则继续遍历左子树
-            return contains(x, t.left);
-        } else if (compareResult > 0) {
-            // 如果目标值项大于当前项值，则继续遍历右子树
-            return contains(x, t.right);
-        } else {
-            // 匹配
-            return true;
+        while (t != nullNode) {
+            if (TreeMetrics.ENABLED) {
+                metrics.visit();
+            }
+            int compareResult = compare(x, t.element);
+            if (compareResult < 0) {
+                // 如果目标值小于当前项值，则继续遍历左子树
+                t = t.left;
+            } else if (compareResult > 0) {
+                // 如果目标值项大于当前项值，则继续遍历右子树
+                t = t.right;
+            } else {
+                // 匹配
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -204,13 +340,10 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
      * @param t 以当前节点为根节点
      */
     private BinaryNode<T> findMin(BinaryNode<T> t) {
-        if (t == null) {
-            return null;
-        } else if (t.left == null) {
-            return t;
-        } else {
-            return findMin(t.left);
+        while (t.left != nullNode) {
+            t = t.left;
         }
+        return t;
     }
 
     /**
@@ -219,10 +352,8 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
      * @param t 以当前节点为根节点
      */
     private BinaryNode<T> findMax(BinaryNode<T> t) {
-        if (t != null) {
-            while (t.right != null) {
-                t = t.right;
-            }
+        while (t.right != nullNode) {
+            t = t.right;
         }
         return t;
     }
@@ -233,7 +364,7 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
      * @param t 以当前节点为根节点
      */
     private void printTree(BinaryNode<T> t) {
-        if (t != null) {
+        if (t != nullNode) {
             printTree(t.left);
             System.out.println(t.element);
             printTree(t.right);
@@ -247,6 +378,9 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private BinaryNode<T> rotateWithLeftChild(BinaryNode<T> k2) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         BinaryNode<T> k1 = k2.left;
         k2.left = k1.right;
         k1.right = k2;
@@ -260,12 +394,45 @@ public class SplayTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private BinaryNode<T> rotateWithRightChild(BinaryNode<T> k1) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         BinaryNode<T> k2 = k1.right;
         k1.right = k2.left;
         k2.left = k1;
         return k2;
     }
 
+    /**
+     * 中序迭代器，遍历时不做展开
+     */
+    private class TreeIterator extends InOrderIterator<BinaryNode<T>, T> {
+
+        TreeIterator(T lo, T hi) {
+            start(root, lo, hi);
+        }
+
+        @Override
+        protected BinaryNode<T> left(BinaryNode<T> t) {
+            return t.left;
+        }
+
+        @Override
+        protected BinaryNode<T> right(BinaryNode<T> t) {
+            return t.right;
+        }
+
+        @Override
+        protected T element(BinaryNode<T> t) {
+            return t.element;
+        }
+
+        @Override
+        protected boolean isNil(BinaryNode<T> t) {
+            return t == nullNode;
+        }
+    }
+
     /**
      * 节点类
      */
@@ -1,9 +1,12 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.exceptions.UnderFlowException;
-import com.zss.structures.tree.inter.Tree;
+import com.zss.structures.tree.inter.Instrumented;
+import com.zss.structures.tree.inter.OrderedTree;
+import com.zss.structures.tree.inter.TreapPriority;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * @author ZSS
@@ -14,19 +17,51 @@ import java.util.Random;
  * 一个treap树就是一棵二叉查找树，其节点优先级满足堆序性质：
  * ---- 任意节点的优先级必须至少和它父节点的优先级一样大
  * ---- 这不是平衡树，它的旋转太随机
+ * 优先级由 TreapPriority 提供，默认使用 ThreadLocalRandom；传入带种子的发生器可以得到可复现的树。
+ * 由于形状只取决于优先级，拆分(split)和合并(join)都只需沿一条路径操作，期望时间 O(log N)；
+ * 并集、交集、差集在此基础上递归完成，不必逐个插入或删除。
  */
 @SuppressWarnings("unused")
-public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
+public class TreapTree<T extends Comparable<? super T>> implements OrderedTree<T>, Instrumented {
+
+    /**
+     * 所有treap树共用同一个nullNode(它从不被修改)，这样节点可以在树之间直接移动
+     */
+    private static final TreapNode<?> NULL_NODE;
+
+    static {
+        // nullNode的优先级最低，保证删除时总是被旋转到最下方
+        TreapNode<Object> nil = new TreapNode<>(null, null, null, Integer.MAX_VALUE);
+        nil.left = nil.right = nil;
+        nil.size = 0;
+        NULL_NODE = nil;
+    }
 
     private TreapNode<T> root;
     private final TreapNode<T> nullNode;
+    private final TreapPriority<? super T> priority;
+
+    private final TreeMetrics metrics = TreeMetrics.create("TreapTree");
+
+    public TreapTree(){
+        this(TreapPriority.threadLocal());
+    }
 
-    TreapTree(){
-        nullNode = new TreapNode<>(null);
-        nullNode.left = nullNode.right = nullNode;
+    /**
+     * @param priority 新节点优先级的来源
+     */
+    @SuppressWarnings("unchecked")
+    public TreapTree(TreapPriority<? super T> priority) {
+        this.priority = priority;
+        nullNode = (TreapNode<T>) NULL_NODE;
         root = nullNode;
     }
 
+    private TreapTree(TreapNode<T> root, TreapPriority<? super T> priority) {
+        this(priority);
+        this.root = root;
+    }
+
     @Override
     public void makeEmpty() {
         root = nullNode;
@@ -39,27 +74,371 @@ public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
 
     @Override
     public boolean contains(T x) {
-        return false;
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            TreapNode<T> t = root;
+            while (t != nullNode) {
+                if (TreeMetrics.ENABLED) {
+                    metrics.visit();
+                }
+                int compareResult = compare(x, t.element);
+                if (compareResult < 0) {
+                    t = t.left;
+                } else if (compareResult > 0) {
+                    t = t.right;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.CONTAINS, start);
+            }
+        }
     }
 
     @Override
     public T findMin() throws UnderFlowException {
-        return null;
+        if (isEmpty()) {
+            throw new UnderFlowException();
+        }
+        TreapNode<T> t = root;
+        while (t.left != nullNode) {
+            t = t.left;
+        }
+        return t.element;
     }
 
     @Override
     public T findMax() throws UnderFlowException {
-        return null;
+        if (isEmpty()) {
+            throw new UnderFlowException();
+        }
+        TreapNode<T> t = root;
+        while (t.right != nullNode) {
+            t = t.right;
+        }
+        return t.element;
+    }
+
+    /**
+     * 获取树中元素个数 -- O(1)
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * 第 k 小的项(从0开始计数) -- O(log N) 期望时间
+     *
+     * @param k 序号，0 表示最小项
+     * @return element
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("k: " + k + ", size: " + size());
+        }
+        TreapNode<T> t = root;
+        for (; ; ) {
+            int leftSize = t.left.size;
+            if (k < leftSize) {
+                t = t.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                t = t.right;
+            } else {
+                return t.element;
+            }
+        }
+    }
+
+    /**
+     * 树中严格小于 x 的项的个数 -- O(log N) 期望时间
+     * 如果 x 存在，则 select(rank(x)) == x
+     *
+     * @param x 参照项
+     * @return 排名
+     */
+    public int rank(T x) {
+        int rank = 0;
+        TreapNode<T> t = root;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult < 0) {
+                t = t.left;
+            } else if (compareResult > 0) {
+                rank += t.left.size + 1;
+                t = t.right;
+            } else {
+                return rank + t.left.size;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * 插入: 先沿查找路径走到底挂上新节点，再沿路径向上，新节点优先级较高时旋转上去。
+     * 一旦某一层不需要旋转，更上面的层也不需要，只需把 size 加一
+     */
+    @Override
+    public boolean insert(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            if (root == nullNode) {
+                root = new TreapNode<>(x, nullNode, nullNode, newPriority(x));
+                return true;
+            }
+            int depth = 0;
+            TreapNode<T> t = root;
+            for (; ; ) {
+                if (TreeMetrics.ENABLED) {
+                    metrics.visit();
+                }
+                int compareResult = compare(x, t.element);
+                if (compareResult == 0) {
+                    // 出现重复，do nothing
+                    clearPath(depth);
+                    return false;
+                }
+                push(depth++, t);
+                TreapNode<T> next = compareResult < 0 ? t.left : t.right;
+                if (next == nullNode) {
+                    TreapNode<T> node = new TreapNode<>(x, nullNode, nullNode, newPriority(x));
+                    if (compareResult < 0) {
+                        t.left = node;
+                    } else {
+                        t.right = node;
+                    }
+                    break;
+                }
+                t = next;
+            }
+
+            int i = depth - 1;
+            for (; i >= 0; i--) {
+                TreapNode<T> p = path[i];
+                TreapNode<T> sub;
+                if (p.left.priority < p.priority) {
+                    sub = rotateWithLeftChild(p);
+                } else if (p.right.priority < p.priority) {
+                    sub = rotateWithRightChild(p);
+                } else {
+                    break;
+                }
+                replaceChild(i - 1, p, sub);
+            }
+            for (; i >= 0; i--) {
+                path[i].size++;
+            }
+            clearPath(depth);
+            return true;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.INSERT, start);
+            }
+        }
+    }
+
+    /**
+     * 删除: 找到节点后把优先级较高的孩子不断旋转上来，被删除的节点逐层下沉直到成为叶子，
+     * 每次旋转上来的孩子都接在路径末尾；最后摘掉叶子，路径上每个节点的 size 减一
+     */
+    @Override
+    public boolean remove(T x) {
+        long start = TreeMetrics.ENABLED ? metrics.start() : 0L;
+        try {
+            int depth = 0;
+            TreapNode<T> t = root;
+            while (t != nullNode) {
+                if (TreeMetrics.ENABLED) {
+                    metrics.visit();
+                }
+                int compareResult = compare(x, t.element);
+                if (compareResult == 0) {
+                    break;
+                }
+                push(depth++, t);
+                t = compareResult < 0 ? t.left : t.right;
+            }
+            if (t == nullNode) {
+                clearPath(depth);
+                return false;
+            }
+
+            // nullNode的优先级最低，所以不会被旋转上来
+            while (t.left != nullNode || t.right != nullNode) {
+                TreapNode<T> up = t.left.priority < t.right.priority ? rotateWithLeftChild(t) : rotateWithRightChild(t);
+                replaceChild(depth - 1, t, up);
+                push(depth++, up);
+            }
+            replaceChild(depth - 1, t, nullNode);
+            for (int i = depth - 1; i >= 0; i--) {
+                path[i].size--;
+            }
+            clearPath(depth);
+            return true;
+        } finally {
+            if (TreeMetrics.ENABLED) {
+                metrics.stop(TreeMetrics.Operation.REMOVE, start);
+            }
+        }
+    }
+
+    /**
+     * 拆分 -- O(log N) 期望时间
+     * 本树只保留小于 x 的项，大于或等于 x 的项移入新树并返回
+     *
+     * @param x 分界项
+     * @return 由大于或等于 x 的项组成的树
+     */
+    public TreapTree<T> split(T x) {
+        split(root, x);
+        root = splitLeft;
+        TreapNode<T> greater = splitMid == nullNode ? splitRight : join(splitMid, splitRight);
+        splitLeft = splitMid = splitRight = null;
+        return new TreapTree<>(greater, priority);
+    }
+
+    /**
+     * 合并 -- O(log N) 期望时间
+     * other 中的项必须全部大于本树中的项；合并后 other 被清空
+     *
+     * @param other 另一棵树
+     */
+    public void join(TreapTree<T> other) {
+        if (other == this || other.isEmpty()) {
+            return;
+        }
+        if (!isEmpty() && max(root).element.compareTo(min(other.root).element) >= 0) {
+            throw new IllegalArgumentException("All items of other must be greater than items of this tree");
+        }
+        root = join(root, other.root);
+        other.makeEmpty();
+    }
+
+    /**
+     * 并集 -- 两棵树大小分别为 m <= n 时为 O(m log(n / m + 1)) 期望时间
+     * 结果保存在本树中，other 被清空
+     *
+     * @param other 另一棵树
+     */
+    public void union(TreapTree<T> other) {
+        if (other == this) {
+            return;
+        }
+        root = union(root, other.root);
+        splitLeft = splitMid = splitRight = null;
+        other.makeEmpty();
+    }
+
+    /**
+     * 交集 -- 同 union
+     * 结果保存在本树中，other 被清空
+     *
+     * @param other 另一棵树
+     */
+    public void intersection(TreapTree<T> other) {
+        if (other == this) {
+            return;
+        }
+        root = intersection(root, other.root);
+        splitLeft = splitMid = splitRight = null;
+        other.makeEmpty();
+    }
+
+    /**
+     * 差集 -- 同 union
+     * 从本树中删除所有在 other 中出现的项，other 被清空
+     *
+     * @param other 另一棵树
+     */
+    public void difference(TreapTree<T> other) {
+        if (other == this) {
+            makeEmpty();
+            return;
+        }
+        root = difference(root, other.root);
+        splitLeft = splitMid = splitRight = null;
+        other.makeEmpty();
+    }
+
+    @Override
+    public T floor(T x) {
+        T best = null;
+        TreapNode<T> t = root;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T ceiling(T x) {
+        T best = null;
+        TreapNode<T> t = root;
+        while (t != nullNode) {
+            int compareResult = compare(x, t.element);
+            if (compareResult == 0) {
+                return t.element;
+            } else if (compareResult < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public T lower(T x) {
+        T best = null;
+        TreapNode<T> t = root;
+        while (t != nullNode) {
+            if (compare(x, t.element) <= 0) {
+                t = t.left;
+            } else {
+                best = t.element;
+                t = t.right;
+            }
+        }
+        return best;
     }
 
     @Override
-    public void insert(T x) {
-        root = insert(x, root);
+    public T higher(T x) {
+        T best = null;
+        TreapNode<T> t = root;
+        while (t != nullNode) {
+            if (compare(x, t.element) < 0) {
+                best = t.element;
+                t = t.left;
+            } else {
+                t = t.right;
+            }
+        }
+        return best;
     }
 
     @Override
-    public void remove(T x) {
-        root = remove(x, root);
+    public Iterable<T> range(T lo, T hi) {
+        return () -> new TreeIterator(lo, hi);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator(null, null);
     }
 
     @Override
@@ -73,60 +452,219 @@ public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
         }
     }
 
+    @Override
+    public TreeMetrics metrics() {
+        return metrics;
+    }
+
     // ================= 私有方法 ==================== //
 
-    private TreapNode<T> insert(T x, TreapNode<T> t){
-        if (t == nullNode){
-            return new TreapNode<>(x, nullNode, nullNode);
+    /**
+     * 比较两个数据项，开启统计时计数
+     */
+    private int compare(T x, T y) {
+        if (TreeMetrics.ENABLED) {
+            metrics.comparison();
         }
+        return x.compareTo(y);
+    }
 
-        int compareResult = x.compareTo(t.element);
+    /**
+     * 仅用于 insert 和 remove: 从根到当前节点的路径(不含当前节点)，代替递归调用栈。
+     * 用完后清空，避免引用已经删除的节点
+     */
+    private TreapNode<T>[] path = newPath(32);
 
-        if (compareResult < 0){
-            t.left = insert(x, t.left);
-            if (t.left.priority < t.priority){
-                t = rotateWithLeftChild(t);
-            }
-        } else if (compareResult >0){
-            t.right = insert(x, t.right);
-            if (t.right.priority < t.priority){
-                t = rotateWithRightChild(t);
-            }
+    /**
+     * 把 path[i] 的孩子 oldChild 替换为 newChild，i 为 -1 时替换根
+     */
+    private void replaceChild(int i, TreapNode<T> oldChild, TreapNode<T> newChild) {
+        if (i < 0) {
+            root = newChild;
+        } else if (path[i].left == oldChild) {
+            path[i].left = newChild;
         } else {
-            // 出现重复，do nothing
-            System.out.println("已存在");
+            path[i].right = newChild;
         }
-        return t;
     }
 
-    private TreapNode<T> remove(T x, TreapNode<T> t){
-        if (t != nullNode){
-            int compareResult = x.compareTo(t.element);
+    private void push(int depth, TreapNode<T> t) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth] = t;
+    }
 
-            if (compareResult < 0){
-                t.left = remove(x, t.left);
-            } else if (compareResult > 0){
-                t.right = remove(x, t.right);
-            } else {
-                // 成功匹配
-                if (t.left.priority < t.right.priority){
-                    t = rotateWithLeftChild(t);
-                } else{
-                    t = rotateWithRightChild(t);
-                }
+    private void clearPath(int depth) {
+        Arrays.fill(path, 0, depth, null);
+    }
 
-                if (t != nullNode) {
-                    // 继续向下
-                    t = remove(x, t);
-                } else {
-                    // 是一片叶子
-                    t.left = nullNode;
-                }
-            }
+    @SuppressWarnings("unchecked")
+    private static <T> TreapNode<T>[] newPath(int length) {
+        return (TreapNode<T>[]) new TreapNode[length];
+    }
+
+    /**
+     * 仅用于 split 及其调用者，保存拆分的结果:
+     * splitLeft: 小于 x 的项
+     * splitMid: 等于 x 的节点(已经摘下，左右孩子为 nullNode)，不存在时为 nullNode
+     * splitRight: 大于 x 的项
+     */
+    private TreapNode<T> splitLeft;
+    private TreapNode<T> splitMid;
+    private TreapNode<T> splitRight;
+
+    /**
+     * 沿查找 x 的路径把 t 拆成三部分，结果保存在 splitLeft/splitMid/splitRight 中。
+     * 路径上的节点保持原来的优先级，所以两部分仍然满足堆序
+     *
+     * @param t 以当前节点为根节点
+     * @param x 分界项
+     */
+    private void split(TreapNode<T> t, T x) {
+        if (t == nullNode) {
+            splitLeft = splitMid = splitRight = nullNode;
+            return;
+        }
+        int compareResult = compare(x, t.element);
+        if (compareResult > 0) {
+            split(t.right, x);
+            t.right = splitLeft;
+            splitLeft = t;
+        } else if (compareResult < 0) {
+            split(t.left, x);
+            t.left = splitRight;
+            splitRight = t;
+        } else {
+            splitLeft = t.left;
+            splitRight = t.right;
+            t.left = t.right = nullNode;
+            splitMid = t;
+        }
+        t.size = t.left.size + t.right.size + 1;
+    }
+
+    /**
+     * 合并两棵树，a 中的项全部小于 b 中的项。优先级较高的根留在上面，另一棵树并入它靠内侧的子树
+     *
+     * @param a 较小的一棵
+     * @param b 较大的一棵
+     * @return 合并后的根
+     */
+    private TreapNode<T> join(TreapNode<T> a, TreapNode<T> b) {
+        if (a == nullNode) {
+            return b;
+        }
+        if (b == nullNode) {
+            return a;
+        }
+        if (a.priority <= b.priority) {
+            a.right = join(a.right, b);
+            a.size = a.left.size + a.right.size + 1;
+            return a;
+        } else {
+            b.left = join(a, b.left);
+            b.size = b.left.size + b.right.size + 1;
+            return b;
+        }
+    }
+
+    /**
+     * 并集：优先级较高的根留在上面，用它的项拆分另一棵树，两侧分别递归
+     */
+    private TreapNode<T> union(TreapNode<T> a, TreapNode<T> b) {
+        if (a == nullNode) {
+            return b;
+        }
+        if (b == nullNode) {
+            return a;
+        }
+        if (b.priority < a.priority) {
+            TreapNode<T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+        split(b, a.element);
+        // 重复项 splitMid 被丢弃
+        TreapNode<T> less = splitLeft;
+        TreapNode<T> greater = splitRight;
+        a.left = union(a.left, less);
+        a.right = union(a.right, greater);
+        a.size = a.left.size + a.right.size + 1;
+        return a;
+    }
+
+    /**
+     * 交集：根只有在另一棵树中也存在时才保留，否则合并左右两侧的结果
+     */
+    private TreapNode<T> intersection(TreapNode<T> a, TreapNode<T> b) {
+        if (a == nullNode || b == nullNode) {
+            return nullNode;
+        }
+        if (b.priority < a.priority) {
+            TreapNode<T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+        split(b, a.element);
+        boolean found = splitMid != nullNode;
+        TreapNode<T> less = splitLeft;
+        TreapNode<T> greater = splitRight;
+        TreapNode<T> lt = intersection(a.left, less);
+        TreapNode<T> rt = intersection(a.right, greater);
+        if (!found) {
+            return join(lt, rt);
+        }
+        a.left = lt;
+        a.right = rt;
+        a.size = lt.size + rt.size + 1;
+        return a;
+    }
+
+    /**
+     * 差集 a - b：根在 b 中存在时被删除，合并左右两侧的结果
+     */
+    private TreapNode<T> difference(TreapNode<T> a, TreapNode<T> b) {
+        if (a == nullNode || b == nullNode) {
+            return a;
+        }
+        split(b, a.element);
+        boolean found = splitMid != nullNode;
+        TreapNode<T> less = splitLeft;
+        TreapNode<T> greater = splitRight;
+        TreapNode<T> lt = difference(a.left, less);
+        TreapNode<T> rt = difference(a.right, greater);
+        if (found) {
+            return join(lt, rt);
+        }
+        a.left = lt;
+        a.right = rt;
+        a.size = lt.size + rt.size + 1;
+        return a;
+    }
+
+    private TreapNode<T> min(TreapNode<T> t) {
+        while (t.left != nullNode) {
+            t = t.left;
         }
         return t;
     }
 
+    private TreapNode<T> max(TreapNode<T> t) {
+        while (t.right != nullNode) {
+            t = t.right;
+        }
+        return t;
+    }
+
+    /**
+     * 新节点的优先级。Integer.MAX_VALUE 留给 nullNode，否则删除时可能把 nullNode 旋转上来
+     */
+    private int newPriority(T x) {
+        int p = priority.priority(x);
+        return p == Integer.MAX_VALUE ? Integer.MAX_VALUE - 1 : p;
+    }
+
     /**
      * 打印二叉树
      *
@@ -147,9 +685,14 @@ public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private TreapNode<T> rotateWithLeftChild(TreapNode<T> k2) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         TreapNode<T> k1 = k2.left;
-        k2.left = k2.right;
+        k2.left = k1.right;
         k1.right = k2;
+        k2.size = k2.left.size + k2.right.size + 1;
+        k1.size = k1.left.size + k2.size + 1;
         return k1;
     }
 
@@ -160,12 +703,47 @@ public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
      * @return node
      */
     private TreapNode<T> rotateWithRightChild(TreapNode<T> k1) {
+        if (TreeMetrics.ENABLED) {
+            metrics.rotation();
+        }
         TreapNode<T> k2 = k1.right;
         k1.right = k2.left;
         k2.left = k1;
+        k1.size = k1.left.size + k1.right.size + 1;
+        k2.size = k1.size + k2.right.size + 1;
         return k2;
     }
 
+    /**
+     * 中序迭代器
+     */
+    private class TreeIterator extends InOrderIterator<TreapNode<T>, T> {
+
+        TreeIterator(T lo, T hi) {
+            start(root, lo, hi);
+        }
+
+        @Override
+        protected TreapNode<T> left(TreapNode<T> t) {
+            return t.left;
+        }
+
+        @Override
+        protected TreapNode<T> right(TreapNode<T> t) {
+            return t.right;
+        }
+
+        @Override
+        protected T element(TreapNode<T> t) {
+            return t.element;
+        }
+
+        @Override
+        protected boolean isNil(TreapNode<T> t) {
+            return t == nullNode;
+        }
+    }
+
     /**
      * treap树节点
      *
@@ -177,18 +755,15 @@ public class TreapTree<T extends Comparable<? super T>> implements Tree<T> {
         TreapNode<T> right;
         // 优先级
         int priority;
+        // 子树大小(包含自身)，nullNode 为 0
+        int size;
 
-        TreapNode(T theElement) {
-            this(theElement, null, null);
-        }
-
-        TreapNode(T theElement, TreapNode<T> lt, TreapNode<T> rt) {
+        TreapNode(T theElement, TreapNode<T> lt, TreapNode<T> rt, int thePriority) {
             element = theElement;
             left = lt;
             right = rt;
-            priority = RANDOM_OBJ.nextInt();
+            priority = thePriority;
+            size = 1;
         }
-
-        private static final Random RANDOM_OBJ = new Random();
     }
 }
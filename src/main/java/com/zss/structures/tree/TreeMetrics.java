@@ -0,0 +1,234 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.tree.inter.TreeMetricsMXBean;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 19:00
+ * @desc 树的运行统计：比较次数、旋转次数、颜色翻转次数、伸展步数、每次操作的路径长度和耗时直方图
+ * 只有在启动时设置了 -Dzss.tree.metrics=true 才会开启。树中的每一处统计都写成
+ * if (TreeMetrics.ENABLED) { ... }，ENABLED 是 static final，关闭时 JIT 直接把这些分支当作死代码删除。
+ * 树本身不是线程安全的，计数器也只由操作树的线程写；通过 JMX 读取时可能读到稍旧的值。
+ */
+public final class TreeMetrics implements TreeMetricsMXBean {
+
+    /**
+     * 是否开启统计
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("zss.tree.metrics");
+
+    /**
+     * 直方图的桶数
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * 被统计耗时的操作
+     */
+    public enum Operation {
+        INSERT, REMOVE, CONTAINS
+    }
+
+    private final String treeType;
+
+    private long comparisons;
+    private long rotations;
+    private long colorFlips;
+    private long splaySteps;
+    private final long[] depthHistogram = new long[BUCKETS];
+    private final long[][] latencyHistograms = new long[Operation.values().length][BUCKETS];
+
+    /**
+     * 当前操作经过的节点数
+     */
+    private int depth;
+
+    private ObjectName objectName;
+
+    private TreeMetrics(String treeType) {
+        this.treeType = treeType;
+    }
+
+    /**
+     * 开启时为树创建统计，否则返回 null
+     *
+     * @param treeType 树的类型
+     * @return metrics or null
+     */
+    static TreeMetrics create(String treeType) {
+        return ENABLED ? new TreeMetrics(treeType) : null;
+    }
+
+    // ================= 由树调用 ==================== //
+
+    void comparison() {
+        comparisons++;
+    }
+
+    void rotation() {
+        rotations++;
+    }
+
+    void colorFlip() {
+        colorFlips++;
+    }
+
+    void splayStep() {
+        splaySteps++;
+    }
+
+    /**
+     * 经过一个节点
+     */
+    void visit() {
+        depth++;
+    }
+
+    /**
+     * 一次操作开始。树的公开操作之间没有相互调用，所以不需要处理嵌套
+     *
+     * @return 开始时间
+     */
+    long start() {
+        depth = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * 一次操作结束
+     *
+     * @param operation 操作
+     * @param start     start() 的返回值
+     */
+    void stop(Operation operation, long start) {
+        long nanos = System.nanoTime() - start;
+        latencyHistograms[operation.ordinal()][bucket(nanos)]++;
+        depthHistogram[Math.min(depth, BUCKETS - 1)]++;
+    }
+
+    /**
+     * 第 i 个桶是 [2^(i-1), 2^i)，0 单独一个桶
+     */
+    private static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+    }
+
+    // ================= JMX ==================== //
+
+    /**
+     * 注册到平台 MBeanServer，ObjectName 为 com.zss.structures:type=TreeMetrics,tree=树的类型,name=name
+     *
+     * @param name 区分同类型的多棵树
+     * @return 注册使用的 ObjectName
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Already registered as " + objectName);
+        }
+        try {
+            ObjectName on = new ObjectName("com.zss.structures:type=TreeMetrics,tree=" + treeType
+                    + ",name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+            objectName = on;
+            return on;
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not register tree metrics: " + name, e);
+        }
+    }
+
+    /**
+     * 从平台 MBeanServer 注销，未注册时什么也不做
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not unregister tree metrics: " + objectName, e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    @Override
+    public String getTreeType() {
+        return treeType;
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    @Override
+    public long getRotations() {
+        return rotations;
+    }
+
+    @Override
+    public long getColorFlips() {
+        return colorFlips;
+    }
+
+    @Override
+    public long getSplaySteps() {
+        return splaySteps;
+    }
+
+    @Override
+    public long getOperations() {
+        long total = 0;
+        for (long[] histogram : latencyHistograms) {
+            for (long count : histogram) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public long[] getDepthHistogram() {
+        return depthHistogram.clone();
+    }
+
+    @Override
+    public long[] getInsertLatencyHistogram() {
+        return latencyHistograms[Operation.INSERT.ordinal()].clone();
+    }
+
+    @Override
+    public long[] getRemoveLatencyHistogram() {
+        return latencyHistograms[Operation.REMOVE.ordinal()].clone();
+    }
+
+    @Override
+    public long[] getContainsLatencyHistogram() {
+        return latencyHistograms[Operation.CONTAINS.ordinal()].clone();
+    }
+
+    @Override
+    public void reset() {
+        comparisons = rotations = colorFlips = splaySteps = 0;
+        Arrays.fill(depthHistogram, 0);
+        for (long[] histogram : latencyHistograms) {
+            Arrays.fill(histogram, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return treeType + "{comparisons=" + comparisons + ", rotations=" + rotations + ", colorFlips=" + colorFlips
+                + ", splaySteps=" + splaySteps + ", operations=" + getOperations() + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package com.zss.structures.tree.inter;
+
+import com.zss.structures.tree.TreeMetrics;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 19:00
+ * @desc 带有运行统计的树
+ */
+public interface Instrumented {
+
+    /**
+     * 本树的统计。只有在启动时设置了 -Dzss.tree.metrics=true 才会统计，否则返回 null
+     *
+     * @return metrics
+     */
+    TreeMetrics metrics();
+}
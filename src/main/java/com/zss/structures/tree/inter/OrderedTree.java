@@ -0,0 +1,51 @@
+package com.zss.structures.tree.inter;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 09:30
+ * @desc 有序树的接口: 在 Tree 的基础上增加按序遍历、范围查询和近邻查找
+ */
+public interface OrderedTree<T> extends Tree<T>, Iterable<T> {
+
+    /**
+     * 小于等于 x 的最大项
+     *
+     * @param x 参照项
+     * @return element，不存在则返回 null
+     */
+    T floor(T x);
+
+    /**
+     * 大于等于 x 的最小项
+     *
+     * @param x 参照项
+     * @return element，不存在则返回 null
+     */
+    T ceiling(T x);
+
+    /**
+     * 严格小于 x 的最大项
+     *
+     * @param x 参照项
+     * @return element，不存在则返回 null
+     */
+    T lower(T x);
+
+    /**
+     * 严格大于 x 的最小项
+     *
+     * @param x 参照项
+     * @return element，不存在则返回 null
+     */
+    T higher(T x);
+
+    /**
+     * 按从小到大的顺序访问 [lo, hi] 之间的项。
+     * 迭代器在树上惰性地行走，不会把树复制到列表中
+     *
+     * @param lo 下界(包含)
+     * @param hi 上界(包含)
+     * @return 可迭代的范围
+     */
+    Iterable<T> range(T lo, T hi);
+}
@@ -0,0 +1,78 @@
+package com.zss.structures.tree.inter;
+
+import com.zss.structures.tips.randomized.MyRandom;
+import com.zss.structures.tips.randomized.Random48;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 17:00
+ * @desc treap树节点优先级的来源，每插入一个节点调用一次
+ * 树本身不是线程安全的，所以每棵树持有的发生器也不需要是线程安全的
+ *
+ * @param <T> 数据项类型
+ */
+@FunctionalInterface
+public interface TreapPriority<T> {
+
+    /**
+     * 为新节点生成优先级
+     *
+     * @param element 新节点的数据项
+     * @return 优先级，越小越靠近根
+     */
+    int priority(T element);
+
+    /**
+     * 使用当前线程的 ThreadLocalRandom，没有共享的种子，也不需要为每棵树保存状态
+     *
+     * @param <T> 数据项类型
+     * @return priority
+     */
+    static <T> TreapPriority<T> threadLocal() {
+        return element -> ThreadLocalRandom.current().nextInt();
+    }
+
+    /**
+     * 使用一个 Random48，相同的种子得到相同形状的树，便于复现
+     *
+     * @param random 只被这一棵树使用的发生器
+     * @param <T>    数据项类型
+     * @return priority
+     */
+    static <T> TreapPriority<T> random(Random48 random) {
+        return element -> random.nextInt();
+    }
+
+    /**
+     * 使用一个 MyRandom
+     *
+     * @param random 只被这一棵树使用的发生器
+     * @param <T>    数据项类型
+     * @return priority
+     */
+    static <T> TreapPriority<T> random(MyRandom random) {
+        return element -> random.randomInt();
+    }
+
+    /**
+     * 由数据项的 hashCode 经过混合得到：同一组数据无论以什么顺序插入，得到的树都相同。
+     * 散列值分布不均(或被恶意构造)时树会失去平衡
+     *
+     * @param <T> 数据项类型
+     * @return priority
+     */
+    static <T> TreapPriority<T> hashed() {
+        return element -> {
+            // MurmurHash3 fmix32
+            int h = element.hashCode();
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        };
+    }
+}
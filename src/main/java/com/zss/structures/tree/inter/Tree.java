@@ -46,18 +46,20 @@ public interface Tree<T> {
     T findMax() throws UnderFlowException;
 
     /**
-     * 插入新节点
+     * 插入新节点。实现中不做任何输出，结果通过返回值告知调用者
      *
      * @param x element
+     * @return 插入成功返回 true，已经存在返回 false
      */
-    void insert(T x);
+    boolean insert(T x);
 
     /**
-     * 删除节点
+     * 删除节点。实现中不做任何输出，结果通过返回值告知调用者
      *
      * @param x 指定的项
+     * @return 删除成功返回 true，不存在返回 false
      */
-    void remove(T x);
+    boolean remove(T x);
 
     /**
      * 打印树
@@ -0,0 +1,66 @@
+package com.zss.structures.tree.inter;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 19:00
+ * @desc 树的运行统计，通过 JMX 暴露。
+ * 直方图的第 i 个桶：深度直方图为路径上恰好经过 i 个节点的操作次数(最后一个桶包含更深的)；
+ * 耗时直方图为耗时在 [2^(i-1), 2^i) 纳秒内的操作次数
+ */
+public interface TreeMetricsMXBean {
+
+    /**
+     * @return 树的类型
+     */
+    String getTreeType();
+
+    /**
+     * @return 数据项之间的比较次数
+     */
+    long getComparisons();
+
+    /**
+     * @return 单旋转次数，双旋转计为两次
+     */
+    long getRotations();
+
+    /**
+     * @return 红黑树的颜色翻转次数
+     */
+    long getColorFlips();
+
+    /**
+     * @return 伸展树自顶向下展开的步数
+     */
+    long getSplaySteps();
+
+    /**
+     * @return insert / remove / contains 的总次数
+     */
+    long getOperations();
+
+    /**
+     * @return 每次操作经过的节点数的直方图
+     */
+    long[] getDepthHistogram();
+
+    /**
+     * @return insert 耗时直方图
+     */
+    long[] getInsertLatencyHistogram();
+
+    /**
+     * @return remove 耗时直方图
+     */
+    long[] getRemoveLatencyHistogram();
+
+    /**
+     * @return contains 耗时直方图
+     */
+    long[] getContainsLatencyHistogram();
+
+    /**
+     * 所有计数清零
+     */
+    void reset();
+}
@@ -0,0 +1,92 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tree.inter.Tree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * @author ZSS
+ * @date 2026/10/21 10:00
+ * @desc Tree 基准测试的公共部分：键序列、预先填满的树和各个操作，参数由子类声明
+ */
+public abstract class AbstractTreeBenchmark {
+
+    private int[] keys;
+    private Tree<Integer> filled;
+    private Tree<Integer> growing;
+    private int insertCursor;
+    private int queryCursor;
+    private int removeCursor;
+
+    /**
+     * @return 被测试的树
+     */
+    protected abstract TreeType type();
+
+    /**
+     * @return 键序列的分布
+     */
+    protected abstract KeyDistribution distribution();
+
+    /**
+     * @return 树的规模
+     */
+    protected abstract int size();
+
+    @Setup
+    public void setup() {
+        keys = distribution().generate(size(), 42L);
+        filled = type().create();
+        for (int key : keys) {
+            filled.insert(key);
+        }
+        growing = type().create();
+    }
+
+    /**
+     * 插入: 依次插入键序列，插完一轮后清空重来，所以测得的是规模在 [0, size) 之间的平均开销
+     */
+    @Benchmark
+    public Tree<Integer> insert() {
+        if (insertCursor == keys.length) {
+            insertCursor = 0;
+            growing.makeEmpty();
+        }
+        growing.insert(keys[insertCursor++]);
+        return growing;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        if (queryCursor == keys.length) {
+            queryCursor = 0;
+        }
+        return filled.contains(keys[queryCursor++]);
+    }
+
+    /**
+     * 删除: 删除后立即重新插入，使树的规模保持为 size
+     */
+    @Benchmark
+    public Tree<Integer> removeThenInsert() {
+        if (removeCursor == keys.length) {
+            removeCursor = 0;
+        }
+        Integer key = keys[removeCursor++];
+        filled.remove(key);
+        filled.insert(key);
+        return filled;
+    }
+
+    @Benchmark
+    public Integer findMin() throws UnderFlowException {
+        return filled.findMin();
+    }
+
+    @Benchmark
+    public Integer findMax() throws UnderFlowException {
+        return filled.findMax();
+    }
+
+}
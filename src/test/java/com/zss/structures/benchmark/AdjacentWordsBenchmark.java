@@ -0,0 +1,68 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.other.AdjacentWords;
+import com.zss.structures.other.FindWordInOneDifferTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 18:40
+ * @desc computeAdjacentWordsV3 与 AdjacentWords 的耗时，单词随机生成，长度 3 ~ 10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class AdjacentWordsBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<String> words;
+
+    private final FindWordInOneDifferTest v3 = new FindWordInOneDifferTest();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 字母表较小，保证有足够多的相邻单词
+        Random random = new Random(42L);
+        LinkedHashSet<String> set = new LinkedHashSet<>();
+        while (set.size() < size) {
+            char[] w = new char[3 + random.nextInt(8)];
+            for (int i = 0; i < w.length; i++) {
+                w[i] = (char) ('a' + random.nextInt(8));
+            }
+            set.add(new String(w));
+        }
+        words = new ArrayList<>(set);
+    }
+
+    @Benchmark
+    public Object computeAdjacentWordsV3() {
+        return v3.computeAdjacentWordsV3(words);
+    }
+
+    @Benchmark
+    public Object adjacentWords() {
+        return AdjacentWords.compute(words);
+    }
+}
@@ -0,0 +1,156 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.list.MyArrayList;
+import com.zss.structures.list.inter.GrowthPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 16:05
+ * @desc MyArrayList 的追加与中间插入。LoopArrayList 保留了改用 System.arraycopy 之前逐个移动元素的实现，作为对照
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayListBenchmark {
+
+    @Param({"1000000", "4000000"})
+    private int size;
+
+    private static final Integer ITEM = 42;
+
+    private MyArrayList<Integer> list;
+    private LoopArrayList<Integer> loopList;
+    private List<Integer> batch;
+
+    @Setup
+    public void setup() {
+        list = new MyArrayList<>();
+        loopList = new LoopArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(ITEM);
+            loopList.add(ITEM);
+        }
+        batch = Collections.nCopies(1000, ITEM);
+    }
+
+    /**
+     * 追加 size 个元素，包含全部扩容
+     */
+    @Benchmark
+    public MyArrayList<Integer> append() {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            l.add(ITEM);
+        }
+        return l;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> appendOneAndHalf() {
+        MyArrayList<Integer> l = new MyArrayList<>(10, GrowthPolicy.ONE_AND_HALF);
+        for (int i = 0; i < size; i++) {
+            l.add(ITEM);
+        }
+        return l;
+    }
+
+    @Benchmark
+    public LoopArrayList<Integer> appendLoop() {
+        LoopArrayList<Integer> l = new LoopArrayList<>();
+        for (int i = 0; i < size; i++) {
+            l.add(ITEM);
+        }
+        return l;
+    }
+
+    /**
+     * 在中间插入再删除一个元素，表的大小保持不变
+     */
+    @Benchmark
+    public Integer middleInsert() {
+        list.add(size / 2, ITEM);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    public Integer middleInsertLoop() {
+        loopList.add(size / 2, ITEM);
+        return loopList.remove(size / 2);
+    }
+
+    /**
+     * 在中间插入再删除 1000 个元素：一次批量操作对比 1000 次单个操作
+     */
+    @Benchmark
+    public MyArrayList<Integer> middleBatchInsert() {
+        list.addAll(size / 2, batch);
+        list.removeRange(size / 2, size / 2 + batch.size());
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> middleBatchInsertOneByOne() {
+        for (int i = 0; i < batch.size(); i++) {
+            list.add(size / 2, ITEM);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            list.remove(size / 2);
+        }
+        return list;
+    }
+
+    /**
+     * 改动之前的 MyArrayList：逐个移动元素，扩容时逐个复制
+     */
+    @SuppressWarnings("unchecked")
+    public static class LoopArrayList<T> {
+        private int theSize;
+        private T[] theItems = (T[]) new Object[10];
+
+        public void add(T x) {
+            add(theSize, x);
+        }
+
+        public void add(int idx, T x) {
+            if (theItems.length == theSize) {
+                T[] old = theItems;
+                theItems = (T[]) new Object[theSize * 2 + 1];
+                for (int i = 0; i < theSize; i++) {
+                    theItems[i] = old[i];
+                }
+            }
+            for (int i = theSize; i > idx; i--) {
+                theItems[i] = theItems[i - 1];
+            }
+            theItems[idx] = x;
+            theSize++;
+        }
+
+        public T remove(int idx) {
+            T removedItem = theItems[idx];
+            for (int i = idx; i < theSize - 1; i++) {
+                theItems[i] = theItems[i + 1];
+            }
+            theSize--;
+            return removedItem;
+        }
+    }
+}
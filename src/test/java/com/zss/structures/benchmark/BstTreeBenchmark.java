@@ -0,0 +1,50 @@
+package com.zss.structures.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/21 10:05
+ * @desc 二叉查找树的基准测试，操作与 TreeBenchmark 相同。
+ * 不平衡的二叉查找树在有序输入(SEQUENTIAL、ADVERSARIAL)下会退化成链表，每次操作都要走过整条链，
+ * 所以默认规模只到 10K；随机输入下可以通过 -p size=... 指定更大的规模
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BstTreeBenchmark extends AbstractTreeBenchmark {
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN", "ADVERSARIAL"})
+    private KeyDistribution distribution;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Override
+    protected TreeType type() {
+        return TreeType.BST;
+    }
+
+    @Override
+    protected KeyDistribution distribution() {
+        return distribution;
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+}
@@ -0,0 +1,73 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.AvlBinarySearchTree;
+import com.zss.structures.tree.RedBlackTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 11:30
+ * @desc 由有序数据构建整棵树: buildFromSorted 与逐个 insert 的对比
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Integer[] sorted;
+
+    @Setup
+    public void setup() {
+        int[] keys = KeyDistribution.SEQUENTIAL.generate(size, 42L);
+        sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = keys[i];
+        }
+    }
+
+    @Benchmark
+    public AvlBinarySearchTree<Integer> avlInsert() {
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+        for (Integer x : sorted) {
+            tree.insert(x);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public AvlBinarySearchTree<Integer> avlBuildFromSorted() {
+        return AvlBinarySearchTree.buildFromSorted(sorted);
+    }
+
+    @Benchmark
+    public RedBlackTree<Integer> redBlackInsert() {
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        for (Integer x : sorted) {
+            tree.insert(x);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public RedBlackTree<Integer> redBlackBuildFromSorted() {
+        return RedBlackTree.buildFromSorted(sorted);
+    }
+}
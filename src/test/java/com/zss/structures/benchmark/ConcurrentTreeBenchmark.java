@@ -0,0 +1,94 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.LockFreeSkipList;
+import com.zss.structures.tree.RedBlackTree;
+import com.zss.structures.tree.inter.Tree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 19:20
+ * @desc 多线程吞吐量: 无锁跳表 vs 全局锁保护的红黑树 vs 并发模式的红黑树(乐观读，写操作串行)
+ * 线程数通过 -t 指定，例如: -t 1 / -t 4 / -t 16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConcurrentTreeBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    /**
+     * 写操作所占的百分比，插入和删除各占一半
+     */
+    @Param({"0", "10", "50"})
+    private int writePercent;
+
+    private LockFreeSkipList<Integer> skipList;
+    private Tree<Integer> redBlackTree;
+    private Tree<Integer> concurrentRedBlackTree;
+
+    @Setup
+    public void setup() {
+        skipList = new LockFreeSkipList<>();
+        redBlackTree = new RedBlackTree<>();
+        concurrentRedBlackTree = RedBlackTree.concurrent();
+        for (int key : KeyDistribution.RANDOM.generate(size, 42L)) {
+            if ((key & 1) == 0) {
+                skipList.insert(key);
+                redBlackTree.insert(key);
+                concurrentRedBlackTree.insert(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean skipList() {
+        return operate(skipList);
+    }
+
+    @Benchmark
+    public boolean synchronizedRedBlackTree() {
+        synchronized (this) {
+            return operate(redBlackTree);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentRedBlackTree() {
+        return operate(concurrentRedBlackTree);
+    }
+
+    private boolean operate(Tree<Integer> tree) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(size);
+        int dice = random.nextInt(200);
+        if (dice < writePercent) {
+            tree.insert(key);
+        } else if (dice < writePercent * 2) {
+            tree.remove(key);
+        } else {
+            return tree.contains(key);
+        }
+        return false;
+    }
+}
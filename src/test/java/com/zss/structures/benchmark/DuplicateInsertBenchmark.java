@@ -0,0 +1,70 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.inter.Tree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 20:00
+ * @desc 重复项很多的写入流：树中已有所有偶数键，流中的偶数键做插入(都是重复项)，奇数键做删除(都不存在)。
+ * 树的内容在整个测试过程中不变，测到的只是“没有修改”这条路径的吞吐量
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DuplicateInsertBenchmark {
+
+    private static final int DISTINCT = 1 << 12;
+    private static final int STREAM = 1 << 16;
+
+    @Param({"BST", "AVL", "RED_BLACK", "ARRAY_RED_BLACK", "SPLAY", "TREAP"})
+    private TreeType treeType;
+
+    private Tree<Integer> tree;
+    private Integer[] stream;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = treeType.create();
+        int[] present = KeyDistribution.RANDOM.generate(DISTINCT, 42L);
+        for (int key : present) {
+            tree.insert(key * 2);
+        }
+        Random random = new Random(7L);
+        stream = new Integer[STREAM];
+        for (int i = 0; i < STREAM; i++) {
+            stream[i] = random.nextInt(DISTINCT * 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM)
+    public int ingest() {
+        int changed = 0;
+        for (Integer key : stream) {
+            boolean result = (key & 1) == 0 ? tree.insert(key) : tree.remove(key);
+            if (result) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
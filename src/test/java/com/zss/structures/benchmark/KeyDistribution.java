@@ -0,0 +1,97 @@
+package com.zss.structures.benchmark;
+
+import java.util.Random;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 10:05
+ * @desc 基准测试使用的键序列
+ */
+public enum KeyDistribution {
+
+    /**
+     * 顺序递增: 0, 1, 2 ... n-1
+     */
+    SEQUENTIAL {
+        @Override
+        public int[] generate(int n, long seed) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = i;
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * 均匀随机: 0 ~ n-1 的一个随机排列，没有重复
+     */
+    RANDOM {
+        @Override
+        public int[] generate(int n, long seed) {
+            int[] keys = SEQUENTIAL.generate(n, seed);
+            Random random = new Random(seed);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Zipf分布(指数0.99): 少数热点键反复出现，排名经过混洗后分散到整个键空间
+     */
+    ZIPFIAN {
+        @Override
+        public int[] generate(int n, long seed) {
+            int[] keys = new int[n];
+            Random random = new Random(seed);
+            ZipfSampler sampler = new ZipfSampler(n, 0.99);
+            for (int i = 0; i < n; i++) {
+                keys[i] = scramble(sampler.sample(random));
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * 对抗序列: 0, n-1, 1, n-2 ... 两端交替逼近，
+     * 使不平衡的二叉查找树退化成一条之字形的链
+     */
+    ADVERSARIAL {
+        @Override
+        public int[] generate(int n, long seed) {
+            int[] keys = new int[n];
+            int lo = 0;
+            int hi = n - 1;
+            for (int i = 0; i < n; i++) {
+                keys[i] = (i & 1) == 0 ? lo++ : hi--;
+            }
+            return keys;
+        }
+    };
+
+    /**
+     * 生成长度为 n 的键序列
+     *
+     * @param n    长度
+     * @param seed 随机种子，保证结果可复现
+     * @return 键序列
+     */
+    public abstract int[] generate(int n, long seed);
+
+    /**
+     * murmur3 的 fmix32，是一个双射，可以在不产生冲突的前提下打散排名
+     */
+    private static int scramble(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
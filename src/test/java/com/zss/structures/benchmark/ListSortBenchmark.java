@@ -0,0 +1,88 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.list.IntArrayList;
+import com.zss.structures.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 20:15
+ * @desc MyArrayList.sort/parallelSort 与 IntArrayList.sort/parallelSort。
+ * 排序会改变输入，所以每次迭代前恢复成同一份随机数据，使用 SingleShotTime 模式。
+ * 1 亿个元素时装箱的 Integer 需要 2GB 以上的堆:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ListSortBenchmark -p size=100000000 -jvmArgs -Xmx12g"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ListSortBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] boxedSource;
+    private int[] source;
+    private MyArrayList<Integer> list;
+    private IntArrayList intList;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = KeyDistribution.RANDOM.generate(size, 42L);
+        boxedSource = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxedSource[i] = source[i];
+        }
+        list = new MyArrayList<>(size);
+        intList = new IntArrayList(size);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        list.clear();
+        list.addAll(Arrays.asList(boxedSource));
+        intList.clear();
+        intList.addAll(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelSort() {
+        list.parallelSort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList intSort() {
+        intList.sort();
+        return intList;
+    }
+
+    @Benchmark
+    public IntArrayList intParallelSort() {
+        intList.parallelSort();
+        return intList;
+    }
+}
@@ -0,0 +1,61 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 19:10
+ * @desc MyArrayList 上的并行归约: 数组分割器对比原来 Iterable 默认的(大小未知的)分割器
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ListStreamBenchmark {
+
+    @Param({"10000000"})
+    private int size;
+
+    private MyArrayList<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = new MyArrayList<>(size);
+        for (int x : KeyDistribution.RANDOM.generate(size, 42L)) {
+            list.add(x);
+        }
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSumIteratorSpliterator() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), 0), true)
+                .mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,69 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.codec.KeyCodec;
+import com.zss.structures.list.MyArrayList;
+import com.zss.structures.list.OffHeapList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 18:30
+ * @desc 一次完整 GC 的耗时: 堆上的 MyArrayList<Long> 随大小增长，OffHeapList<Long> 与大小无关
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+public class OffHeapListBenchmark {
+
+    @Param({"1000000", "10000000", "30000000"})
+    private int size;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    private String listType;
+
+    private MyArrayList<Long> heapList;
+    private OffHeapList<Long> offHeapList;
+
+    @Setup
+    public void setup() {
+        if ("HEAP".equals(listType)) {
+            heapList = new MyArrayList<>(size);
+            for (long i = 0; i < size; i++) {
+                heapList.add(i);
+            }
+        } else {
+            offHeapList = new OffHeapList<>(KeyCodec.LONG);
+            for (long i = 0; i < size; i++) {
+                offHeapList.add(i);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (offHeapList != null) {
+            offHeapList.close();
+        }
+    }
+
+    @Benchmark
+    public void fullGc() {
+        System.gc();
+    }
+}
@@ -0,0 +1,69 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.AvlBinarySearchTree;
+import com.zss.structures.tree.LongAvlTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 14:52
+ * @desc 装箱的 AvlBinarySearchTree<Long> 与 LongAvlTree 的查找对比
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveAvlBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private long[] keys;
+    private AvlBinarySearchTree<Long> boxed;
+    private LongAvlTree primitive;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        int[] ints = KeyDistribution.RANDOM.generate(size, 42L);
+        keys = new long[size];
+        boxed = new AvlBinarySearchTree<>();
+        primitive = new LongAvlTree();
+        for (int i = 0; i < size; i++) {
+            // 模拟稀疏的 long ID
+            keys[i] = ints[i] * 1_000_003L;
+            boxed.insert(keys[i]);
+            primitive.insert(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean boxedContains() {
+        if (cursor == keys.length) {
+            cursor = 0;
+        }
+        return boxed.contains(keys[cursor++]);
+    }
+
+    @Benchmark
+    public boolean primitiveContains() {
+        if (cursor == keys.length) {
+            cursor = 0;
+        }
+        return primitive.contains(keys[cursor++]);
+    }
+}
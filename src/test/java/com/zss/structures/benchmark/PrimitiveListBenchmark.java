@@ -0,0 +1,90 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.list.IntArrayList;
+import com.zss.structures.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 17:05
+ * @desc 装箱的 MyArrayList<Integer> 与 IntArrayList 的构建和遍历对比，配合 -prof gc 查看分配量
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private int[] values;
+    private MyArrayList<Integer> boxed;
+    private IntArrayList primitive;
+
+    @Setup
+    public void setup() {
+        values = KeyDistribution.RANDOM.generate(size, 42L);
+        boxed = boxedBuild();
+        primitive = primitiveBuild();
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> boxedBuild() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int x : values) {
+            list.add(x);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList primitiveBuild() {
+        IntArrayList list = new IntArrayList();
+        for (int x : values) {
+            list.add(x);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (Integer x : boxed) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveIteratorSum() {
+        long sum = 0;
+        PrimitiveIterator.OfInt it = primitive.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveForEachSum() {
+        long[] sum = new long[1];
+        primitive.forEach((int x) -> sum[0] += x);
+        return sum[0];
+    }
+}
@@ -0,0 +1,126 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tips.randomized.Random48;
+import com.zss.structures.tips.randomized.SplitMixGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 16:00
+ * @desc Random48 / SplitMixGenerator 与 java.util.Random / java.util.SplittableRandom 的单次生成耗时
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark {
+
+    /**
+     * 不是 2 的幂，nextInt(bound) 需要走拒绝采样的分支
+     */
+    private static final int BOUND = 1_000_003;
+
+    private final Random48 random48 = new Random48(42L);
+    private final SplitMixGenerator splitMix = new SplitMixGenerator(42L);
+    private final Random random = new Random(42L);
+    private final SplittableRandom splittableRandom = new SplittableRandom(42L);
+
+    private final int[] ints = new int[1024];
+
+    @Benchmark
+    public int random48NextInt() {
+        return random48.nextInt();
+    }
+
+    @Benchmark
+    public int randomNextInt() {
+        return random.nextInt();
+    }
+
+    @Benchmark
+    public int splittableRandomNextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Benchmark
+    public int splitMixNextInt() {
+        return splitMix.nextInt();
+    }
+
+    @Benchmark
+    public int random48NextIntBound() {
+        return random48.nextInt(BOUND);
+    }
+
+    @Benchmark
+    public int randomNextIntBound() {
+        return random.nextInt(BOUND);
+    }
+
+    @Benchmark
+    public int splittableRandomNextIntBound() {
+        return splittableRandom.nextInt(BOUND);
+    }
+
+    @Benchmark
+    public double random48NextDouble() {
+        return random48.nextDouble();
+    }
+
+    @Benchmark
+    public double randomNextDouble() {
+        return random.nextDouble();
+    }
+
+    @Benchmark
+    public double splittableRandomNextDouble() {
+        return splittableRandom.nextDouble();
+    }
+
+    @Benchmark
+    public long random48NextLong() {
+        return random48.nextLong();
+    }
+
+    @Benchmark
+    public long randomNextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * 批量填充 1024 个
+     */
+    @Benchmark
+    public int[] random48NextInts() {
+        random48.nextInts(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] splitMixNextInts() {
+        splitMix.nextInts(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] randomNextInts() {
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt();
+        }
+        return ints;
+    }
+}
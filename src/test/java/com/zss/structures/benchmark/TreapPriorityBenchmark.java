@@ -0,0 +1,82 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tips.randomized.MyRandom;
+import com.zss.structures.tips.randomized.Random48;
+import com.zss.structures.tree.TreapTree;
+import com.zss.structures.tree.inter.TreapPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 17:30
+ * @desc 多个线程各自构建一棵 treap 树，比较不同优先级来源的插入耗时。
+ * shared 模拟原来所有树共用一个静态发生器的情况：每次插入都要对同一个种子做 CAS
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TreapPriorityBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private static final Random SHARED = new Random(42L);
+
+    @Param({"shared", "random48", "myRandom", "threadLocal", "hashed"})
+    private String source;
+
+    private Integer[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] generated = KeyDistribution.RANDOM.generate(SIZE, 42L);
+        keys = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = generated[i];
+        }
+    }
+
+    @Benchmark
+    public TreapTree<Integer> build() {
+        TreapTree<Integer> tree = new TreapTree<>(newPriority());
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    private TreapPriority<Object> newPriority() {
+        switch (source) {
+            case "shared":
+                return element -> SHARED.nextInt();
+            case "random48":
+                return TreapPriority.random(new Random48(42L));
+            case "myRandom":
+                return TreapPriority.random(new MyRandom(42));
+            case "threadLocal":
+                return TreapPriority.threadLocal();
+            case "hashed":
+                return TreapPriority.hashed();
+            default:
+                throw new IllegalArgumentException(source);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.TreapTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 14:10
+ * @desc treap树的 split/join/union/intersection/difference 与逐个 insert/remove 的对比。
+ * 这些操作会破坏输入，所以每次调用前都重新构建两棵树，使用 SingleShotTime 模式
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TreapSetOperationBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    /**
+     * 两棵树的键各有一半重叠
+     */
+    private Integer[] keysA;
+    private Integer[] keysB;
+    private TreapTree<Integer> a;
+    private TreapTree<Integer> b;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        int[] keys = KeyDistribution.RANDOM.generate(size + size / 2, 42L);
+        keysA = new Integer[size];
+        keysB = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keysA[i] = keys[i];
+            keysB[i] = keys[i + size / 2];
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void build() {
+        a = new TreapTree<>();
+        b = new TreapTree<>();
+        for (int i = 0; i < size; i++) {
+            a.insert(keysA[i]);
+            b.insert(keysB[i]);
+        }
+    }
+
+    @Benchmark
+    public TreapTree<Integer> split() {
+        return a.split(size / 2);
+    }
+
+    @Benchmark
+    public TreapTree<Integer> splitByRemove() {
+        TreapTree<Integer> greater = new TreapTree<>();
+        for (Integer x : keysA) {
+            if (x >= size / 2) {
+                a.remove(x);
+                greater.insert(x);
+            }
+        }
+        return greater;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> union() {
+        a.union(b);
+        return a;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> unionByInsert() {
+        for (Integer x : keysB) {
+            a.insert(x);
+        }
+        return a;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> intersection() {
+        a.intersection(b);
+        return a;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> intersectionByRemove() {
+        for (Integer x : keysA) {
+            if (!b.contains(x)) {
+                a.remove(x);
+            }
+        }
+        return a;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> difference() {
+        a.difference(b);
+        return a;
+    }
+
+    @Benchmark
+    public TreapTree<Integer> differenceByRemove() {
+        for (Integer x : keysB) {
+            a.remove(x);
+        }
+        return a;
+    }
+}
@@ -0,0 +1,82 @@
+package com.zss.structures.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 10:20
+ * @desc 所有平衡树的基准测试，二叉查找树见 BstTreeBenchmark
+ * 默认规模为 1K ~ 1M，更大的规模通过参数指定，例如: -p size=10000000,50000000 -jvmArgs -Xmx16g
+ * 直接运行 main 方法会依次输出吞吐量(ops/s)与分配速率(gc profiler)，以及 p99 等延迟分位数
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark extends AbstractTreeBenchmark {
+
+    /**
+     * main 方法同时运行本类和 BstTreeBenchmark
+     */
+    private static final String INCLUDE = "\\.(Bst)?TreeBenchmark\\.";
+
+    @Param({"AVL", "RED_BLACK", "ARRAY_RED_BLACK", "SPLAY", "TREAP"})
+    private TreeType type;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN", "ADVERSARIAL"})
+    private KeyDistribution distribution;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Override
+    protected TreeType type() {
+        return type;
+    }
+
+    @Override
+    protected KeyDistribution distribution() {
+        return distribution;
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        // 吞吐量 + 分配速率
+        Options throughput = new OptionsBuilder()
+                .include(INCLUDE)
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(throughput).run();
+
+        // 延迟分位数(p50 / p99 / p99.9 ...)
+        Options latency = new OptionsBuilder()
+                .include(INCLUDE)
+                .mode(Mode.SampleTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .build();
+        new Runner(latency).run();
+    }
+}
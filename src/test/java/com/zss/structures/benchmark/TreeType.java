@@ -0,0 +1,87 @@
+package com.zss.structures.benchmark;
+
+import com.zss.structures.tree.ArrayRedBlackTree;
+import com.zss.structures.tree.AvlBinarySearchTree;
+import com.zss.structures.tree.BinarySearchTree;
+import com.zss.structures.tree.RedBlackTree;
+import com.zss.structures.tree.SplayTree;
+import com.zss.structures.tree.TreapTree;
+import com.zss.structures.tree.inter.TreapPriority;
+import com.zss.structures.tree.inter.Tree;
+import com.zss.structures.tips.randomized.Random48;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 10:08
+ * @desc 参与基准测试的树
+ */
+public enum TreeType {
+
+    /**
+     * 二叉查找树
+     */
+    BST {
+        @Override
+        public Tree<Integer> create() {
+            return new BinarySearchTree<>();
+        }
+    },
+
+    /**
+     * AVL树
+     */
+    AVL {
+        @Override
+        public Tree<Integer> create() {
+            return new AvlBinarySearchTree<>();
+        }
+    },
+
+    /**
+     * 红黑树
+     */
+    RED_BLACK {
+        @Override
+        public Tree<Integer> create() {
+            return new RedBlackTree<>();
+        }
+    },
+
+    /**
+     * 红黑树 -- 数组实现
+     */
+    ARRAY_RED_BLACK {
+        @Override
+        public Tree<Integer> create() {
+            return new ArrayRedBlackTree<>();
+        }
+    },
+
+    /**
+     * 伸展树
+     */
+    SPLAY {
+        @Override
+        public Tree<Integer> create() {
+            return new SplayTree<>();
+        }
+    },
+
+    /**
+     * treap树
+     */
+    TREAP {
+        @Override
+        public Tree<Integer> create() {
+            // 固定种子，每次运行得到相同形状的树
+            return new TreapTree<>(TreapPriority.random(new Random48(42L)));
+        }
+    };
+
+    /**
+     * 创建一棵空树
+     *
+     * @return tree
+     */
+    public abstract Tree<Integer> create();
+}
@@ -0,0 +1,94 @@
+package com.zss.structures.benchmark;
+
+import java.util.Random;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 10:12
+ * @desc Zipf分布采样器 -- 拒绝-逆变换法(Hörmann & Derflinger)
+ * 无需预先计算累积分布表，所以即使 n 达到 5000万 也只占用常数内存
+ */
+public class ZipfSampler {
+
+    private final int n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    /**
+     * @param n        取值范围 [1, n]
+     * @param exponent 指数，越大越集中于少数热点
+     */
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0 || exponent <= 0) {
+            throw new IllegalArgumentException("n and exponent must be positive");
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * 采样一次
+     *
+     * @param random 随机源
+     * @return [1, n] 内的排名，排名越小出现越频繁
+     */
+    public int sample(Random random) {
+        for (; ; ) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    // ================= 私有方法 ==================== //
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1.0 - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    /**
+     * log(1 + x) / x，在 x 接近0时使用泰勒展开避免精度损失
+     */
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * (exp(x) - 1) / x，在 x 接近0时使用泰勒展开避免精度损失
+     */
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+    }
+}
@@ -0,0 +1,184 @@
+package com.zss.structures.list;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.list.inter.GrowthPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 15:40
+ * @desc 数组表测试
+ */
+public class MyArrayListTest extends BaseTest {
+
+    @Test
+    public void addAndRemoveTest() {
+        for (GrowthPolicy policy : Arrays.asList(GrowthPolicy.DOUBLING, GrowthPolicy.ONE_AND_HALF, GrowthPolicy.increment(3))) {
+            MyArrayList<Integer> list = new MyArrayList<>(0, policy);
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(7);
+            for (int i = 0; i < 5000; i++) {
+                int op = random.nextInt(4);
+                if (op == 0 && !expected.isEmpty()) {
+                    int idx = random.nextInt(expected.size());
+                    Assert.assertEquals(expected.remove(idx), list.remove(idx));
+                } else if (op == 1) {
+                    int idx = random.nextInt(expected.size() + 1);
+                    expected.add(idx, i);
+                    list.add(idx, i);
+                } else {
+                    expected.add(i);
+                    list.add(i);
+                }
+            }
+            assertSame(expected, list);
+        }
+    }
+
+    @Test
+    public void bulkOperationTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            if (random.nextBoolean() && !expected.isEmpty()) {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                expected.subList(from, to).clear();
+                list.removeRange(from, to);
+            } else {
+                List<Integer> batch = Collections.nCopies(random.nextInt(50), round);
+                int idx = random.nextInt(expected.size() + 1);
+                expected.addAll(idx, batch);
+                Assert.assertEquals(!batch.isEmpty(), list.addAll(idx, batch));
+            }
+            assertSame(expected, list);
+        }
+        list.trimToSize();
+        assertSame(expected, list);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void addOutOfRangeTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1, 1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void removeFromFullListTest() {
+        MyArrayList<Integer> list = new MyArrayList<>(2);
+        list.add(1);
+        list.add(2);
+        Assert.assertEquals(Integer.valueOf(2), list.remove(1));
+        list.remove(1);
+    }
+
+    @Test
+    public void streamTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> spliterator = list.spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(50_000, prefix.estimateSize());
+        Assert.assertEquals(50_000, spliterator.estimateSize());
+
+        long expected = 99_999L * 100_000 / 2;
+        Assert.assertEquals(expected, list.stream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(expected, list.parallelStream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(Integer.valueOf(12345), list.parallelStream().filter(x -> x == 12345).findFirst().orElse(null));
+        Assert.assertEquals(list.size(), list.parallelStream().collect(Collectors.toList()).size());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorFailFastTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(Arrays.asList(1, 2, 3));
+        for (Integer x : list) {
+            if (x == 2) {
+                list.add(4);
+            }
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void forEachFailFastTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(Arrays.asList(1, 2, 3));
+        list.forEach(x -> list.remove(0));
+    }
+
+    @Test
+    public void iteratorRemoveTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertSame(Arrays.asList(1, 3), list);
+    }
+
+    @Test
+    public void sortTest() {
+        Random random = new Random(5);
+        for (int n : new int[]{0, 1, 100, 10_000, 200_003}) {
+            MyArrayList<int[]> list = new MyArrayList<>();
+            MyArrayList<int[]> parallel = new MyArrayList<>();
+            List<int[]> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                // {键, 原始位置}，键有大量重复，用来检查稳定性
+                int[] item = {random.nextInt(1000), i};
+                list.add(item);
+                parallel.add(item);
+                expected.add(item);
+            }
+            Comparator<int[]> byKey = Comparator.comparingInt(item -> item[0]);
+            expected.sort(byKey);
+            list.sort(byKey);
+            parallel.parallelSort(byKey);
+            for (int i = 0; i < n; i++) {
+                Assert.assertSame(expected.get(i), list.get(i));
+                Assert.assertSame(expected.get(i), parallel.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void naturalOrderSortTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 50_000; i++) {
+            int x = random.nextInt();
+            list.add(x);
+            expected.add(x);
+        }
+        Collections.sort(expected);
+        list.parallelSort(null);
+        assertSame(expected, list);
+    }
+
+    private static void assertSame(List<Integer> expected, MyArrayList<Integer> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
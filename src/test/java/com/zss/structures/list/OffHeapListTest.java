@@ -0,0 +1,104 @@
+package com.zss.structures.list;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.codec.KeyCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 18:10
+ * @desc 堆外表测试
+ */
+public class OffHeapListTest extends BaseTest {
+
+    /**
+     * 12 字节的记录: (x, y, z)
+     */
+    private static final KeyCodec<int[]> POINT = new KeyCodec<int[]>() {
+        @Override
+        public int width() {
+            return 3 * Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, int[] key) {
+            buffer.putInt(offset, key[0]);
+            buffer.putInt(offset + 4, key[1]);
+            buffer.putInt(offset + 8, key[2]);
+        }
+
+        @Override
+        public int[] read(ByteBuffer buffer, int offset) {
+            return new int[]{buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8)};
+        }
+    };
+
+    @Test
+    public void addAndGetTest() {
+        // 每块只有 8 条记录，测试跨块访问
+        try (OffHeapList<Long> list = new OffHeapList<>(KeyCodec.LONG, 64)) {
+            for (long i = 0; i < 1000; i++) {
+                list.add(i * i);
+            }
+            Assert.assertEquals(1000, list.size());
+            Assert.assertEquals(1000, list.capacity());
+            for (int i = 0; i < 1000; i++) {
+                Assert.assertEquals(Long.valueOf((long) i * i), list.get(i));
+            }
+            Assert.assertEquals(Long.valueOf(4), list.set(2, -1L));
+            Assert.assertEquals(Long.valueOf(-1), list.get(2));
+
+            long expected = 0;
+            for (Long x : list) {
+                expected++;
+            }
+            Assert.assertEquals(1000, expected);
+
+            for (int i = 0; i < 990; i++) {
+                list.removeLast();
+            }
+            list.trimToSize();
+            Assert.assertEquals(16, list.capacity());
+            Assert.assertEquals(Long.valueOf(81), list.get(9));
+        }
+    }
+
+    @Test
+    public void recordTest() {
+        try (OffHeapList<int[]> list = new OffHeapList<>(POINT)) {
+            list.ensureCapacity(100);
+            for (int i = 0; i < 100; i++) {
+                list.add(new int[]{i, -i, i * 3});
+            }
+            Assert.assertArrayEquals(new int[]{42, -42, 126}, list.get(42));
+            list.clear();
+            Assert.assertTrue(list.isEmpty());
+            Assert.assertEquals(0, list.capacity());
+        }
+    }
+
+    @Test
+    public void closedTest() {
+        OffHeapList<Long> list = new OffHeapList<>(KeyCodec.LONG);
+        list.add(1L);
+        list.close();
+        list.close();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(0, list.capacity());
+        List<Runnable> operations = Arrays.asList(() -> list.add(2L), () -> list.get(0), () -> list.set(0, 2L),
+                list::removeLast, list::iterator, list::clear, list::trimToSize, () -> list.ensureCapacity(1));
+        for (Runnable operation : operations) {
+            try {
+                operation.run();
+                Assert.fail("closed list should reject the operation");
+            } catch (IllegalStateException expected) {
+                // 已关闭
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.zss.structures.list;
+
+import com.zss.structures.BaseTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 16:50
+ * @desc int/long/double 特化数组表测试
+ */
+public class PrimitiveArrayListTest extends BaseTest {
+
+    @Test
+    public void intListTest() {
+        IntArrayList list = new IntArrayList(0);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            int x = random.nextInt(1000);
+            if (random.nextInt(4) == 0 && !expected.isEmpty()) {
+                int idx = random.nextInt(expected.size());
+                Assert.assertEquals(expected.remove(idx).intValue(), list.remove(idx));
+            } else {
+                int idx = random.nextInt(expected.size() + 1);
+                expected.add(idx, x);
+                list.add(idx, x);
+            }
+        }
+        list.addAll(new int[]{1, 2, 3});
+        expected.addAll(Arrays.asList(1, 2, 3));
+        list.removeRange(10, 20);
+        expected.subList(10, 20).clear();
+
+        Assert.assertEquals(expected.size(), list.size());
+        PrimitiveIterator.OfInt it = list.iterator();
+        for (Integer x : expected) {
+            Assert.assertEquals(x.intValue(), it.nextInt());
+        }
+        Assert.assertFalse(it.hasNext());
+
+        long[] sum = new long[1];
+        list.forEach((int x) -> sum[0] += x);
+        Assert.assertEquals(expected.stream().mapToLong(Integer::longValue).sum(), sum[0]);
+
+        list.sort();
+        expected.sort(null);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i).intValue(), list.get(i));
+            Assert.assertEquals(expected.get(i).intValue(), list.get(list.binarySearch(expected.get(i))));
+        }
+        Assert.assertTrue(list.binarySearch(-1) < 0);
+    }
+
+    @Test
+    public void longListTest() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < 1000; i++) {
+            list.add((i * 7919) % 1000 * 1_000_000_007L);
+        }
+        list.parallelSort();
+        Assert.assertArrayEquals(list.toArray(), sorted(list.toArray()));
+        Assert.assertEquals(500, list.binarySearch(500 * 1_000_000_007L));
+        Assert.assertEquals(-2, list.binarySearch(1));
+
+        PrimitiveIterator.OfLong it = list.iterator();
+        while (it.hasNext()) {
+            if (it.nextLong() % 2 == 0) {
+                it.remove();
+            }
+        }
+        Assert.assertEquals(500, list.size());
+        list.trimToSize();
+        Assert.assertEquals(500, list.size());
+    }
+
+    @Test
+    public void doubleListTest() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(new double[]{3.5, -1.0, 2.25});
+        list.add(0, 10.0);
+        list.sort();
+        Assert.assertArrayEquals(new double[]{-1.0, 2.25, 3.5, 10.0}, list.toArray(), 0.0);
+        Assert.assertEquals(2, list.binarySearch(3.5));
+        Assert.assertEquals(3.5, list.set(2, 4.0), 0.0);
+        Assert.assertEquals(-1.0, list.remove(0), 0.0);
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void iteratorRemoveTest() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{1, 2, 3, 4});
+        PrimitiveIterator.OfInt it = list.iterator();
+        try {
+            it.remove();
+            Assert.fail("remove() before next() should throw");
+        } catch (IllegalStateException expected) {
+            // 还没有调用 next
+        }
+        it.nextInt();
+        it.nextInt();
+        it.remove();
+        try {
+            it.remove();
+            Assert.fail("second remove() should throw");
+        } catch (IllegalStateException expected) {
+            // 每次 next 之后只能删除一次
+        }
+        Assert.assertArrayEquals(new int[]{1, 3, 4}, list.toArray());
+
+        PrimitiveIterator.OfDouble doubles = new DoubleArrayList().iterator();
+        try {
+            doubles.remove();
+            Assert.fail("remove() before next() should throw");
+        } catch (IllegalStateException expected) {
+            // 同上
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorFailFastTest() {
+        LongArrayList list = new LongArrayList();
+        list.addAll(new long[]{1, 2, 3});
+        PrimitiveIterator.OfLong it = list.iterator();
+        while (it.hasNext()) {
+            if (it.nextLong() == 2) {
+                list.add(4);
+            }
+        }
+    }
+
+    @Test
+    public void forEachFailFastTest() {
+        IntArrayList ints = new IntArrayList();
+        ints.addAll(new int[]{1, 2, 3});
+        LongArrayList longs = new LongArrayList();
+        longs.addAll(new long[]{1, 2, 3});
+        DoubleArrayList doubles = new DoubleArrayList();
+        doubles.addAll(new double[]{1, 2, 3});
+        List<Runnable> loops = Arrays.asList(
+                () -> ints.forEach((int x) -> ints.clear()),
+                () -> longs.forEach((long x) -> longs.add(x)),
+                () -> doubles.forEach((double x) -> doubles.remove(0)));
+        for (Runnable loop : loops) {
+            try {
+                loop.run();
+                Assert.fail("forEach should fail fast");
+            } catch (ConcurrentModificationException expected) {
+                // action 中修改了表
+            }
+        }
+        // 第一次修改之后立即停止，不会继续处理旧数据
+        Assert.assertTrue(ints.isEmpty());
+        Assert.assertEquals(4, longs.size());
+        Assert.assertEquals(2, doubles.size());
+    }
+
+    private static long[] sorted(long[] a) {
+        long[] copy = a.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
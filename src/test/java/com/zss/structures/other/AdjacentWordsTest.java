@@ -0,0 +1,59 @@
+package com.zss.structures.other;
+
+import com.zss.structures.BaseTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 18:30
+ * @desc AdjacentWords 测试
+ */
+public class AdjacentWordsTest extends BaseTest {
+
+    @Test
+    public void simpleTest() {
+        AdjacentWords adj = AdjacentWords.compute(Arrays.asList("fine", "line", "wine", "wide", "fine", "dog", "fig"));
+        Assert.assertEquals(6, adj.size());
+        Assert.assertEquals(4, adj.id("dog"));
+        Assert.assertEquals(-1, adj.id("cat"));
+        // fine - line, fine - wine, line - wine, wine - wide
+        Assert.assertEquals(8, adj.edgeCount());
+        Assert.assertArrayEquals(new int[]{1, 2}, adj.neighbors(adj.id("fine")));
+        Assert.assertArrayEquals(new int[]{0, 1, 3}, adj.neighbors(adj.id("wine")));
+        Assert.assertEquals(0, adj.degree(adj.id("dog")));
+        Assert.assertEquals(adj.size() + 1, adj.offsets().length);
+    }
+
+    @Test
+    public void sameAsV3Test() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            char[] w = new char[1 + random.nextInt(5)];
+            for (int j = 0; j < w.length; j++) {
+                w[j] = (char) ('a' + random.nextInt(4));
+            }
+            words.add(new String(w));
+        }
+        Map<String, List<String>> expected = new FindWordInOneDifferTest().computeAdjacentWordsV3(new ArrayList<>(
+                new LinkedHashSet<>(words)));
+        expected.values().forEach(Collections::sort);
+
+        for (ForkJoinPool pool : Arrays.asList(new ForkJoinPool(1), new ForkJoinPool(4))) {
+            Map<String, List<String>> actual = AdjacentWords.compute(words, pool).toMap();
+            actual.values().forEach(Collections::sort);
+            Assert.assertEquals(expected, actual);
+            pool.shutdown();
+        }
+    }
+}
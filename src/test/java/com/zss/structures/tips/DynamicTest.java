@@ -2,8 +2,11 @@ package com.zss.structures.tips;
 
 import com.zss.structures.BaseTest;
 import com.zss.structures.tips.dynamic.Fibonacci;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.math.BigInteger;
+
 /**
  * @author ZSS
  * @date 2022/6/29 10:29
@@ -17,4 +20,62 @@ public class DynamicTest extends BaseTest {
         int fibonacci = Fibonacci.fibonacci(n);
         System.out.println(fibonacci);
     }
+
+    @Test
+    public void fastDoublingTest() {
+        BigInteger nextToLast = BigInteger.ONE;
+        BigInteger last = BigInteger.ONE;
+        for (int n = 0; n <= 2000; n++) {
+            BigInteger expected = n <= 1 ? BigInteger.ONE : nextToLast.add(last);
+            if (n > 1) {
+                nextToLast = last;
+                last = expected;
+            }
+            Assert.assertEquals(expected, Fibonacci.fibonacciBig(n));
+            Assert.assertEquals(expected, Fibonacci.fibonacciCached(n));
+            if (n <= Fibonacci.MAX_LONG_TERM) {
+                Assert.assertEquals(expected.longValueExact(), Fibonacci.fibonacciLong(n));
+            }
+            if (n <= 40) {
+                Assert.assertEquals(Fibonacci.fibonacci(n), Fibonacci.fibonacciLong(n));
+            }
+        }
+        Assert.assertEquals(7540113804746346429L, Fibonacci.fibonacciLong(Fibonacci.MAX_LONG_TERM));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void longOverflowTest() {
+        Fibonacci.fibonacciLong(Fibonacci.MAX_LONG_TERM + 1);
+    }
+
+    @Test
+    public void maxTermTest() {
+        for (int n : new int[]{-1, Integer.MAX_VALUE}) {
+            try {
+                Fibonacci.fibonacciBig(n);
+                Assert.fail("fibonacciBig(" + n + ") should throw");
+            } catch (IllegalArgumentException expected) {
+                // 下标越界
+            }
+            try {
+                Fibonacci.fibonacciCached(n);
+                Assert.fail("fibonacciCached(" + n + ") should throw");
+            } catch (IllegalArgumentException expected) {
+                // 下标越界
+            }
+        }
+    }
+
+    @Test
+    public void rangeTest() {
+        long[] terms = Fibonacci.fibonacciRange(0, Fibonacci.MAX_LONG_TERM + 1);
+        for (int n = 0; n < terms.length; n++) {
+            Assert.assertEquals(Fibonacci.fibonacciLong(n), terms[n]);
+        }
+        BigInteger[] bigTerms = Fibonacci.fibonacciBigRange(1000, 1100);
+        for (int i = 0; i < bigTerms.length; i++) {
+            Assert.assertEquals(Fibonacci.fibonacciBig(1000 + i), bigTerms[i]);
+        }
+        Assert.assertEquals(0, Fibonacci.fibonacciRange(5, 5).length);
+    }
 }
@@ -0,0 +1,142 @@
+package com.zss.structures.tips;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.tips.dynamic.EvictionPolicy;
+import com.zss.structures.tips.dynamic.Fibonacci;
+import com.zss.structures.tips.dynamic.IntMemoTable;
+import com.zss.structures.tips.dynamic.LongMemoTable;
+import com.zss.structures.tips.dynamic.MemoStats;
+import com.zss.structures.tips.dynamic.MemoTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 11:00
+ * @desc 备忘录表测试
+ */
+public class MemoTableTest extends BaseTest {
+
+    @Test
+    public void lruEvictionTest() {
+        MemoTable<String, Integer> table = new MemoTable<>(3, EvictionPolicy.LRU);
+        table.put("a", 1);
+        table.put("b", 2);
+        table.put("c", 3);
+        // 访问 a 之后，最久没有被访问的是 b
+        Assert.assertEquals(Integer.valueOf(1), table.get("a", k -> -1));
+        table.put("d", 4);
+        Assert.assertNull(table.getIfPresent("b"));
+        Assert.assertEquals(Integer.valueOf(1), table.getIfPresent("a"));
+        Assert.assertEquals(3, table.size());
+
+        MemoStats stats = table.stats();
+        Assert.assertEquals(1, stats.hitCount());
+        Assert.assertEquals(0, stats.missCount());
+        Assert.assertEquals(1, stats.evictionCount());
+    }
+
+    @Test
+    public void lfuEvictionTest() {
+        LongMemoTable<String> table = new LongMemoTable<>(3, EvictionPolicy.LFU);
+        table.put(1L, "one");
+        table.put(2L, "two");
+        table.put(3L, "three");
+        // 1 被命中两次，3 被命中一次，2 从未被命中
+        table.get(1L, k -> "x");
+        table.get(1L, k -> "x");
+        table.get(3L, k -> "x");
+        table.put(4L, "four");
+        Assert.assertNull(table.getIfPresent(2L));
+        // 4 的频次最低
+        table.put(5L, "five");
+        Assert.assertNull(table.getIfPresent(4L));
+        Assert.assertEquals("one", table.getIfPresent(1L));
+        Assert.assertEquals("three", table.getIfPresent(3L));
+        Assert.assertEquals("five", table.getIfPresent(5L));
+    }
+
+    @Test
+    public void boundedTest() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            IntMemoTable<Integer> table = new IntMemoTable<>(1000, policy);
+            for (int i = 0; i < 100_000; i++) {
+                int key = i % 3000;
+                Assert.assertEquals(Integer.valueOf(key * 2), table.get(key, k -> k * 2));
+            }
+            Assert.assertTrue(table.size() <= table.maxSize() + 16);
+            MemoStats stats = table.stats();
+            Assert.assertEquals(100_000, stats.requestCount());
+            Assert.assertEquals(stats.missCount() - table.size(), stats.evictionCount());
+        }
+    }
+
+    @Test
+    public void recursiveLoaderTest() {
+        // 朴素的递归求路径数，递归中查询同一张表
+        MemoTable<List<Integer>, Long> table = new MemoTable<>(10_000, EvictionPolicy.LRU);
+        AtomicInteger computed = new AtomicInteger();
+        long paths = gridPaths(table, computed, 30, 30);
+        Assert.assertEquals(118264581564861424L, paths);
+        // 每个子问题只计算一次，(0, 0) 不会被用到
+        Assert.assertEquals(31 * 31 - 1, computed.get());
+    }
+
+    private static long gridPaths(MemoTable<List<Integer>, Long> table, AtomicInteger computed, int r, int c) {
+        List<Integer> key = new ArrayList<>();
+        key.add(r);
+        key.add(c);
+        return table.get(key, k -> {
+            computed.incrementAndGet();
+            if (r == 0 || c == 0) {
+                return 1L;
+            }
+            return gridPaths(table, computed, r - 1, c) + gridPaths(table, computed, r, c - 1);
+        });
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        LongMemoTable<Long> table = new LongMemoTable<>(2048, EvictionPolicy.LFU);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long seed = t;
+                futures.add(pool.submit(() -> {
+                    long x = seed;
+                    for (int i = 0; i < 50_000; i++) {
+                        x = x * 6364136223846793005L + 1442695040888963407L;
+                        long key = (x >>> 40) % 5000;
+                        Assert.assertEquals(Long.valueOf(key * key), table.get(key, k -> k * k));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(200_000, table.stats().requestCount());
+        Assert.assertTrue(table.size() <= table.maxSize() + 16);
+    }
+
+    @Test
+    public void fibonacciCacheTest() {
+        long before = Fibonacci.cacheStats().missCount();
+        Assert.assertEquals(Fibonacci.fibonacciBig(100_000), Fibonacci.fibonacciCached(100_000));
+        long first = Fibonacci.cacheStats().missCount() - before;
+        // 相邻的项共享绝大部分子问题
+        Assert.assertEquals(Fibonacci.fibonacciBig(100_001), Fibonacci.fibonacciCached(100_001));
+        long second = Fibonacci.cacheStats().missCount() - before - first;
+        Assert.assertTrue(second * 4 < first);
+    }
+}
@@ -3,8 +3,14 @@ package com.zss.structures.tips;
 import com.zss.structures.BaseTest;
 import com.zss.structures.tips.randomized.MyRandom;
 import com.zss.structures.tips.randomized.Random48;
+import com.zss.structures.tips.randomized.SplitMixGenerator;
+import com.zss.structures.tips.randomized.SplittableGenerator;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Random;
+import java.util.SplittableRandom;
+
 /**
  * @author ZSS
  * @date 2022/6/29 11:10
@@ -28,4 +34,103 @@ public class RandomTest extends BaseTest {
             System.out.println(random48.randomInt());
         }
     }
+
+    @Test
+    public void random48StateTest() {
+        // 完整的 48 位状态: 序列与 java.util.Random 完全相同
+        long seed = 0x123456789ABCL;
+        Random48 random48 = new Random48(seed);
+        Random expected = new Random(seed ^ 0x5DEECE66DL);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(expected.nextInt(), random48.nextInt());
+            Assert.assertEquals(expected.nextLong(), random48.nextLong());
+            Assert.assertEquals(expected.nextDouble(), random48.nextDouble(), 0.0);
+        }
+    }
+
+    @Test
+    public void splitMixTest() {
+        // 同一个种子下与 java.util.SplittableRandom 的序列相同
+        SplitMixGenerator generator = new SplitMixGenerator(42L);
+        SplittableRandom expected = new SplittableRandom(42L);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(expected.nextInt(), generator.nextInt());
+            Assert.assertEquals(expected.nextLong(), generator.nextLong());
+            Assert.assertEquals(expected.nextDouble(), generator.nextDouble(), 0.0);
+        }
+        SplittableGenerator child = generator.split();
+        SplittableRandom expectedChild = expected.split();
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(expectedChild.nextLong(), child.nextLong());
+        }
+    }
+
+    @Test
+    public void jumpTest() {
+        SplittableGenerator[] generators = {new Random48(7L), new SplitMixGenerator(7L)};
+        SplittableGenerator[] stepped = {new Random48(7L), new SplitMixGenerator(7L)};
+        for (int g = 0; g < generators.length; g++) {
+            for (long steps : new long[]{0, 1, 2, 3, 1000, 12345}) {
+                generators[g].jump(steps);
+                for (long i = 0; i < steps; i++) {
+                    stepped[g].nextInt();
+                }
+                Assert.assertEquals(stepped[g].nextInt(), generators[g].nextInt());
+            }
+        }
+    }
+
+    @Test
+    public void bulkTest() {
+        SplittableGenerator[] generators = {new Random48(9L), new SplitMixGenerator(9L)};
+        SplittableGenerator[] single = {new Random48(9L), new SplitMixGenerator(9L)};
+        for (int g = 0; g < generators.length; g++) {
+            int[] ints = new int[100];
+            generators[g].nextInts(ints);
+            for (int x : ints) {
+                Assert.assertEquals(single[g].nextInt(), x);
+            }
+            double[] doubles = new double[100];
+            generators[g].nextDoubles(doubles);
+            for (double x : doubles) {
+                Assert.assertEquals(single[g].nextDouble(), x, 0.0);
+                Assert.assertTrue(x >= 0.0 && x < 1.0);
+            }
+        }
+    }
+
+    @Test
+    public void splitTest() {
+        SplittableGenerator parent = new Random48(11L);
+        SplittableGenerator child = parent.split();
+        int same = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (parent.nextInt() == child.nextInt()) {
+                same++;
+            }
+        }
+        Assert.assertTrue(same < 5);
+    }
+
+    @Test
+    public void random48BoundTest() {
+        long seed = 0xCAFEL;
+        Random48 random48 = new Random48(seed);
+        Random expected = new Random(seed ^ 0x5DEECE66DL);
+        for (int bound : new int[]{1, 2, 7, 16, 1000, (1 << 30) + 1, Integer.MAX_VALUE}) {
+            for (int i = 0; i < 1000; i++) {
+                Assert.assertEquals(expected.nextInt(bound), random48.nextInt(bound));
+            }
+        }
+        // 修复后的 randomDouble 落在 [0, 1)
+        for (int i = 0; i < 1000; i++) {
+            double x = random48.randomDouble();
+            Assert.assertTrue(x >= 0.0 && x < 1.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void random48IllegalBoundTest() {
+        new Random48().nextInt(0);
+    }
 }
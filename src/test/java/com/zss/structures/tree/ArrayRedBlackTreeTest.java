@@ -0,0 +1,58 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 15:58
+ * @desc 数组实现的红黑树测试
+ */
+public class ArrayRedBlackTreeTest extends BaseTest {
+
+    @Test
+    public void insertTest() {
+        ArrayRedBlackTree<Integer> tree = new ArrayRedBlackTree<>();
+        int[] items = {30, 15, 70, 10, 20, 60, 85, 5, 50, 65, 80, 90, 40, 55};
+        for (int item : items) {
+            tree.insert(item);
+        }
+        tree.printTree();
+        tree.remove(85);
+        tree.printTree();
+        Assert.assertFalse(tree.contains(85));
+        Assert.assertTrue(tree.contains(80));
+        tree.checkInvariants();
+    }
+
+    @Test
+    public void randomTest() throws UnderFlowException {
+        // 初始容量很小，顺便覆盖扩容与空闲槽位复用
+        ArrayRedBlackTree<Integer> tree = new ArrayRedBlackTree<>(1);
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 20000; i++) {
+            int x = random.nextInt(500);
+            if (random.nextBoolean()) {
+                tree.insert(x);
+                expected.add(x);
+            } else {
+                tree.remove(x);
+                expected.remove(x);
+            }
+            Assert.assertEquals(expected.contains(x), tree.contains(x));
+            tree.checkInvariants();
+            if (!expected.isEmpty()) {
+                Assert.assertEquals(expected.first(), tree.findMin());
+                Assert.assertEquals(expected.last(), tree.findMax());
+            }
+        }
+        tree.makeEmpty();
+        Assert.assertTrue(tree.isEmpty());
+    }
+}
@@ -1,8 +1,12 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.BaseTest;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Random;
+import java.util.TreeSet;
+
 /**
  * @author ZSS
  * @date 2022/5/13 16:26
@@ -35,4 +39,55 @@ public class AvlBinarySearchTreeTest extends BaseTest {
         avlTree.printTree();
         System.out.println("success");
     }
+
+    @Test
+    public void rankAndSelectTest() {
+        avlTree = new AvlBinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(1000);
+            if (random.nextInt(3) > 0) {
+                avlTree.insert(x);
+                expected.add(x);
+            } else {
+                avlTree.remove(x);
+                expected.remove(x);
+            }
+        }
+        Assert.assertEquals(expected.size(), avlTree.size());
+        int k = 0;
+        for (Integer x : expected) {
+            Assert.assertEquals(x, avlTree.select(k));
+            Assert.assertEquals(k, avlTree.rank(x));
+            Assert.assertEquals(k + 1, avlTree.rank(x + 1));
+            k++;
+        }
+    }
+
+    @Test
+    public void buildFromSortedTest() {
+        for (int n = 0; n < 200; n++) {
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                sorted[i] = i * 2;
+            }
+            avlTree = AvlBinarySearchTree.buildFromSorted(sorted);
+            Assert.assertEquals(n, avlTree.size());
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(sorted[i], avlTree.select(i));
+                Assert.assertEquals(i, avlTree.rank(i * 2));
+                Assert.assertFalse(avlTree.contains(i * 2 + 1));
+            }
+            // 构建出的树可以继续正常插入和删除
+            avlTree.insert(-1);
+            avlTree.remove(0);
+            Assert.assertEquals(n == 0 ? 1 : n, avlTree.size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildFromUnsortedTest() {
+        AvlBinarySearchTree.buildFromSorted(new Integer[]{1, 3, 3, 4});
+    }
 }
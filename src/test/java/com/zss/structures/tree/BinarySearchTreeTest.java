@@ -2,9 +2,11 @@ package com.zss.structures.tree;
 
 import com.zss.structures.BaseTest;
 import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Random;
+import java.util.TreeSet;
 
 /**
  * @author ZSS
@@ -80,4 +82,44 @@ public class BinarySearchTreeTest extends BaseTest {
         System.out.println(min);
     }
 
+    @Test
+    public void degenerateTest() throws UnderFlowException {
+        // 有序插入，树退化成一条长度为 n 的链
+        int n = 30_000;
+        bSTree = new BinarySearchTree<>();
+        for (int i = 0; i < n; i++) {
+            bSTree.insert(i);
+        }
+        Assert.assertTrue(bSTree.contains(n - 1));
+        Assert.assertFalse(bSTree.contains(n));
+        for (int i = 0; i < n; i += 2) {
+            bSTree.remove(i);
+        }
+        Assert.assertEquals(1, bSTree.findMin().intValue());
+        Assert.assertEquals(n - 1, bSTree.findMax().intValue());
+        Assert.assertFalse(bSTree.contains(n / 2));
+        Assert.assertTrue(bSTree.contains(n / 2 + 1));
+    }
+
+    @Test
+    public void randomRemoveTest() {
+        Random random = new Random(3);
+        bSTree = new BinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(500);
+            if (expected.contains(x) == random.nextBoolean()) {
+                continue;
+            }
+            if (expected.add(x)) {
+                bSTree.insert(x);
+            } else {
+                expected.remove(x);
+                bSTree.remove(x);
+            }
+        }
+        for (int x = 0; x < 500; x++) {
+            Assert.assertEquals(expected.contains(x), bSTree.contains(x));
+        }
+    }
 }
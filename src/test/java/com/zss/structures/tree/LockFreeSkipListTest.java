@@ -0,0 +1,155 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 19:05
+ * @desc 无锁跳表测试
+ */
+public class LockFreeSkipListTest extends BaseTest {
+
+    @Test
+    public void sequentialTest() throws UnderFlowException {
+        LockFreeSkipList<Integer> list = new LockFreeSkipList<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            int x = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                list.insert(x);
+                expected.add(x);
+            } else {
+                list.remove(x);
+                expected.remove(x);
+            }
+            Assert.assertEquals(expected.contains(x), list.contains(x));
+        }
+        Assert.assertEquals(expected.first(), list.findMin());
+        Assert.assertEquals(expected.last(), list.findMax());
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        LockFreeSkipList<Integer> list = new LockFreeSkipList<>();
+        int threads = 4;
+        int perThread = 20000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            futures.add(pool.submit(() -> {
+                // 每个线程插入自己的键，再删除其中的偶数，同时读取其他线程的键
+                for (int i = 0; i < perThread; i++) {
+                    list.insert(i * threads + id);
+                    list.contains(i * threads + (id + 1) % threads);
+                }
+                for (int i = 0; i < perThread; i += 2) {
+                    list.remove(i * threads + id);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < perThread; i++) {
+            for (int t = 0; t < threads; t++) {
+                Assert.assertEquals((i & 1) == 1, list.contains(i * threads + t));
+            }
+        }
+        Assert.assertEquals(Integer.valueOf(threads), list.findMin());
+        Assert.assertEquals(Integer.valueOf((perThread - 1) * threads + threads - 1), list.findMax());
+    }
+
+    @Test
+    public void contendedTest() throws Exception {
+        LockFreeSkipList<Integer> list = new LockFreeSkipList<>();
+        int threads = 4;
+        int keys = 64;
+        int rounds = 500;
+        // 每一轮所有线程先同时插入同一组键，再同时删除同一组键；每个键每轮恰好一次插入、一次删除成功
+        AtomicIntegerArray inserted = new AtomicIntegerArray(keys);
+        AtomicIntegerArray removed = new AtomicIntegerArray(keys);
+        AtomicIntegerArray raceInserted = new AtomicIntegerArray(keys);
+        AtomicIntegerArray raceRemoved = new AtomicIntegerArray(keys);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            futures.add(pool.submit(() -> {
+                for (int r = 0; r < rounds; r++) {
+                    barrier.await();
+                    for (int i = 0; i < keys; i++) {
+                        int key = (i + id) % keys;
+                        if (list.insert(key)) {
+                            inserted.incrementAndGet(key);
+                        }
+                    }
+                    barrier.await();
+                    for (int i = 0; i < keys; i++) {
+                        int key = (i + id) % keys;
+                        if (list.remove(key)) {
+                            removed.incrementAndGet(key);
+                        }
+                    }
+                }
+                // 最后一段: 插入和删除同一个键相互竞争，奇数号线程只插入，偶数号线程只删除
+                barrier.await();
+                for (int i = 0; i < keys * 10; i++) {
+                    int key = i % keys;
+                    if (id % 2 == 1) {
+                        if (list.insert(key)) {
+                            raceInserted.incrementAndGet(key);
+                        }
+                    } else if (list.remove(key)) {
+                        raceRemoved.incrementAndGet(key);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Integer> remaining = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            Assert.assertEquals("key " + key, rounds, inserted.get(key));
+            Assert.assertEquals("key " + key, rounds, removed.get(key));
+            int diff = raceInserted.get(key) - raceRemoved.get(key);
+            // 成功的插入和删除必须交替出现，所以差值只能是 0 或 1，且与最终是否存在一致
+            Assert.assertTrue("key " + key, diff == 0 || diff == 1);
+            Assert.assertEquals("key " + key, diff == 1, list.contains(key));
+            if (diff == 1) {
+                remaining.add(key);
+            }
+        }
+        List<Integer> contents = new ArrayList<>();
+        while (!list.isEmpty()) {
+            Integer min = list.findMin();
+            contents.add(min);
+            Assert.assertTrue(list.remove(min));
+        }
+        Assert.assertEquals(remaining, contents);
+    }
+}
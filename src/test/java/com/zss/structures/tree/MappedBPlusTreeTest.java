@@ -0,0 +1,81 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.codec.KeyCodec;
+import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 17:40
+ * @desc 内存映射B+树测试
+ */
+public class MappedBPlusTreeTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void randomTest() throws IOException, UnderFlowException {
+        // 页很小，保证发生多层分裂
+        Path file = folder.newFile("random.idx").toPath();
+        TreeSet<Integer> expected = new TreeSet<>();
+        try (MappedBPlusTree<Integer> tree = new MappedBPlusTree<>(file, KeyCodec.INT, 64)) {
+            Random random = new Random(11);
+            for (int i = 0; i < 20000; i++) {
+                int x = random.nextInt(3000);
+                if (random.nextInt(3) > 0) {
+                    tree.insert(x);
+                    expected.add(x);
+                } else {
+                    tree.remove(x);
+                    expected.remove(x);
+                }
+                Assert.assertEquals(expected.contains(x), tree.contains(x));
+            }
+            Assert.assertEquals(expected.size(), tree.size());
+            Assert.assertEquals(expected.first(), tree.findMin());
+            Assert.assertEquals(expected.last(), tree.findMax());
+
+            List<Integer> scanned = new ArrayList<>();
+            tree.scan(1000, 2000, scanned::add);
+            Assert.assertEquals(new ArrayList<>(expected.subSet(1000, true, 2000, true)), scanned);
+        }
+    }
+
+    @Test
+    public void reopenTest() throws IOException, UnderFlowException {
+        Path file = folder.newFile("reopen.idx").toPath();
+        try (MappedBPlusTree<Long> tree = new MappedBPlusTree<>(file, KeyCodec.LONG)) {
+            for (long i = 0; i < 100_000; i++) {
+                tree.insert(i * 3);
+            }
+        }
+        try (MappedBPlusTree<Long> tree = new MappedBPlusTree<>(file, KeyCodec.LONG)) {
+            Assert.assertEquals(100_000, tree.size());
+            Assert.assertTrue(tree.contains(299_997L));
+            Assert.assertFalse(tree.contains(299_998L));
+            Assert.assertEquals(Long.valueOf(0), tree.findMin());
+            Assert.assertEquals(Long.valueOf(299_997L), tree.findMax());
+            tree.makeEmpty();
+            Assert.assertTrue(tree.isEmpty());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void keyWidthMismatchTest() throws IOException {
+        Path file = folder.newFile("mismatch.idx").toPath();
+        new MappedBPlusTree<>(file, KeyCodec.INT).close();
+        new MappedBPlusTree<>(file, KeyCodec.LONG).close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.tree.inter.OrderedTree;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author ZSS
+ * @date 2026/10/19 10:15
+ * @desc 有序树(范围查询、中序遍历、近邻查找)测试
+ */
+public class OrderedTreeTest extends BaseTest {
+
+    private List<OrderedTree<Integer>> trees() {
+        return Arrays.asList(new AvlBinarySearchTree<>(), new RedBlackTree<>(), RedBlackTree.concurrent(), new TreapTree<>(),
+                new SplayTree<>());
+    }
+
+    @Test
+    public void navigationTest() {
+        for (OrderedTree<Integer> tree : trees()) {
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(9);
+            for (int i = 0; i < 500; i++) {
+                int x = random.nextInt(2000) * 2;
+                tree.insert(x);
+                expected.add(x);
+            }
+            for (int x = -5; x < 4005; x++) {
+                String name = tree.getClass().getSimpleName() + " x=" + x;
+                Assert.assertEquals(name, expected.floor(x), tree.floor(x));
+                Assert.assertEquals(name, expected.ceiling(x), tree.ceiling(x));
+                Assert.assertEquals(name, expected.lower(x), tree.lower(x));
+                Assert.assertEquals(name, expected.higher(x), tree.higher(x));
+            }
+
+            List<Integer> all = new ArrayList<>();
+            tree.forEach(all::add);
+            Assert.assertEquals(new ArrayList<>(expected), all);
+
+            List<Integer> part = new ArrayList<>();
+            for (Integer x : tree.range(101, 1500)) {
+                part.add(x);
+            }
+            Assert.assertEquals(new ArrayList<>(expected.subSet(101, true, 1500, true)), part);
+        }
+    }
+
+    @Test
+    public void emptyRangeTest() {
+        for (OrderedTree<Integer> tree : trees()) {
+            Assert.assertFalse(tree.iterator().hasNext());
+            Assert.assertNull(tree.floor(1));
+            tree.insert(10);
+            Assert.assertFalse(tree.range(11, 20).iterator().hasNext());
+            Assert.assertFalse(tree.range(0, 9).iterator().hasNext());
+            Iterator<Integer> it = tree.range(10, 10).iterator();
+            Assert.assertEquals(Integer.valueOf(10), it.next());
+            try {
+                it.next();
+                Assert.fail();
+            } catch (NoSuchElementException expected) {
+                // 期望的结果
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author ZSS
+ * @date 2026/10/18 14:40
+ * @desc int/long 特化AVL树测试
+ */
+public class PrimitiveAvlTreeTest extends BaseTest {
+
+    @Test
+    public void intTreeTest() throws UnderFlowException {
+        IntAvlTree tree = new IntAvlTree();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(1000) - 500;
+            if (random.nextBoolean()) {
+                tree.insert(x);
+                expected.add(x);
+            } else {
+                tree.remove(x);
+                expected.remove(x);
+            }
+            Assert.assertEquals(expected.contains(x), tree.contains(x));
+        }
+        Assert.assertEquals(expected.first().intValue(), tree.findMin());
+        Assert.assertEquals(expected.last().intValue(), tree.findMax());
+    }
+
+    @Test
+    public void longTreeTest() throws UnderFlowException {
+        LongAvlTree tree = new LongAvlTree();
+        tree.insert(Long.MAX_VALUE);
+        tree.insert(Long.MIN_VALUE);
+        tree.insert(0L);
+        tree.insert(1L << 40);
+        tree.remove(0L);
+        tree.printTree();
+        Assert.assertTrue(tree.contains(1L << 40));
+        Assert.assertFalse(tree.contains(0L));
+        Assert.assertEquals(Long.MIN_VALUE, tree.findMin());
+        Assert.assertEquals(Long.MAX_VALUE, tree.findMax());
+    }
+
+    @Test(expected = UnderFlowException.class)
+    public void emptyTest() throws UnderFlowException {
+        new LongAvlTree().findMin();
+    }
+}
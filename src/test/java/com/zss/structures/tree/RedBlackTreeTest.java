@@ -1,8 +1,22 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.BaseTest;
+import com.zss.structures.exceptions.UnderFlowException;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
 /**
  * @author ZSS
  * @date 2022/6/7 10:22
@@ -52,6 +66,143 @@ public class RedBlackTreeTest extends BaseTest {
         redBlackTree.remove(85);
 
         redBlackTree.printTree();
+        redBlackTree.checkInvariants();
+    }
+
+    @Test
+    public void buildFromSortedTest() throws UnderFlowException {
+        for (int n = 0; n < 200; n++) {
+            Iterator<Integer> sorted = IntStream.range(0, n).map(i -> i * 2).boxed().iterator();
+            redBlackTree = RedBlackTree.buildFromSorted(sorted, n);
+            redBlackTree.checkInvariants();
+            int expected = 0;
+            for (Integer x : redBlackTree) {
+                Assert.assertEquals(expected, x.intValue());
+                expected += 2;
+            }
+            Assert.assertEquals(n * 2, expected);
+            for (int i = 0; i < n; i++) {
+                Assert.assertTrue(redBlackTree.contains(i * 2));
+                Assert.assertFalse(redBlackTree.contains(i * 2 + 1));
+            }
+            // 构建出的树可以继续正常插入
+            redBlackTree.insert(-1);
+            Assert.assertEquals(-1, redBlackTree.findMin().intValue());
+            redBlackTree.checkInvariants();
+        }
+    }
+
+    @Test
+    public void removeTest() throws UnderFlowException {
+        init();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 20_000; i++) {
+            int x = random.nextInt(500);
+            int op = random.nextInt(5);
+            if (op < 2) {
+                Assert.assertEquals(expected.add(x), redBlackTree.insert(x));
+            } else if (op < 4) {
+                Assert.assertEquals(expected.remove(x), redBlackTree.remove(x));
+            } else if (!expected.isEmpty()) {
+                Assert.assertEquals(expected.pollFirst(), redBlackTree.removeMin());
+            }
+            redBlackTree.checkInvariants();
+        }
+        Iterator<Integer> it = redBlackTree.iterator();
+        for (Integer x : expected) {
+            Assert.assertEquals(x, it.next());
+        }
+        Assert.assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void removeNullTest() {
+        init();
+        for (int i = 0; i < 10; i++) {
+            redBlackTree.insert(i);
+        }
+        try {
+            redBlackTree.remove(null);
+            Assert.fail("remove(null) should throw NullPointerException");
+        } catch (NullPointerException expected) {
+            // null 不是“删除最小项”的信号
+        }
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(redBlackTree.contains(i));
+        }
+    }
+
+    @Test(expected = UnderFlowException.class)
+    public void removeMinEmptyTest() throws UnderFlowException {
+        init();
+        redBlackTree.removeMin();
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        RedBlackTree<Integer> tree = RedBlackTree.concurrent();
+        int n = 20000;
+        // 奇数键始终存在，偶数键由写线程反复插入删除
+        for (int i = 1; i < n; i += 2) {
+            tree.insert(i);
+        }
+        int readers = 3;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(readers + 1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < readers; t++) {
+            final int seed = t;
+            futures.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                while (!done.get()) {
+                    int x = random.nextInt(n / 2) * 2 + 1;
+                    Assert.assertFalse(tree.isEmpty());
+                    Assert.assertTrue(tree.contains(x));
+                    Assert.assertEquals(Integer.valueOf(x), tree.floor(x));
+                    Assert.assertFalse(tree.contains(n + x));
+                    Integer higher = tree.higher(x);
+                    Assert.assertTrue(higher == null || higher == x + 1 || higher == x + 2);
+                }
+            }));
+        }
+        Future<?> writer = pool.submit(() -> {
+            Random random = new Random(42);
+            for (int i = 0; i < 200_000; i++) {
+                int x = random.nextInt(n / 2) * 2;
+                if (random.nextBoolean()) {
+                    tree.insert(x);
+                } else {
+                    tree.remove(x);
+                }
+            }
+            for (int x = 0; x < n; x += 2) {
+                tree.remove(x);
+            }
+        });
+        try {
+            writer.get();
+        } finally {
+            done.set(true);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        int expected = 1;
+        for (Integer x : tree) {
+            Assert.assertEquals(expected, x.intValue());
+            expected += 2;
+        }
+        Assert.assertEquals(n + 1, expected);
+        tree.checkInvariants();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildFromUnsortedTest() {
+        RedBlackTree.buildFromSorted(new Integer[]{1, 3, 2});
     }
 
 }
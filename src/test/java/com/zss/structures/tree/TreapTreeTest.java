@@ -1,9 +1,19 @@
 package com.zss.structures.tree;
 
 import com.zss.structures.BaseTest;
+import com.zss.structures.exceptions.UnderFlowException;
+import com.zss.structures.tips.randomized.MyRandom;
+import com.zss.structures.tips.randomized.Random48;
+import com.zss.structures.tree.inter.TreapPriority;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * @author ZSS
@@ -30,6 +40,176 @@ public class TreapTreeTest extends BaseTest {
         root.printTree();
     }
 
+    @Test
+    public void containsTest() throws UnderFlowException {
+        init();
+        for (int i = 0; i < 100; i++) {
+            root.insert(i);
+        }
+        root.remove(0);
+        root.remove(50);
+        Assert.assertFalse(root.contains(50));
+        Assert.assertTrue(root.contains(51));
+        Assert.assertEquals(Integer.valueOf(1), root.findMin());
+        Assert.assertEquals(Integer.valueOf(99), root.findMax());
+    }
+
+    @Test
+    public void rankAndSelectTest() {
+        init();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(1000);
+            if (random.nextInt(3) > 0) {
+                root.insert(x);
+                expected.add(x);
+            } else {
+                root.remove(x);
+                expected.remove(x);
+            }
+        }
+        Assert.assertEquals(expected.size(), root.size());
+        int k = 0;
+        for (Integer x : expected) {
+            Assert.assertEquals(x, root.select(k));
+            Assert.assertEquals(k, root.rank(x));
+            Assert.assertEquals(k + 1, root.rank(x + 1));
+            k++;
+        }
+    }
+
+    @Test
+    public void splitAndJoinTest() {
+        Random random = new Random(21);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<Integer> expected = new TreeSet<>();
+            root = randomTree(random, 500, expected);
+            int x = random.nextInt(1100) - 50;
+
+            TreapTree<Integer> greater = root.split(x);
+            assertSame(expected.headSet(x, false), root);
+            assertSame(expected.tailSet(x, true), greater);
+
+            root.join(greater);
+            Assert.assertTrue(greater.isEmpty());
+            assertSame(expected, root);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void joinOverlappingTest() {
+        init();
+        root.insert(5);
+        TreapTree<Integer> other = new TreapTree<>();
+        other.insert(5);
+        root.join(other);
+    }
+
+    @Test
+    public void setOperationTest() {
+        Random random = new Random(34);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<Integer> a = new TreeSet<>();
+            TreeSet<Integer> b = new TreeSet<>();
+            int n = random.nextInt(600);
+            int m = random.nextInt(600);
+
+            TreapTree<Integer> ta = randomTree(new Random(round), n, a);
+            TreapTree<Integer> tb = randomTree(new Random(round + 1000), m, b);
+            ta.union(tb);
+            TreeSet<Integer> union = new TreeSet<>(a);
+            union.addAll(b);
+            assertSame(union, ta);
+            Assert.assertTrue(tb.isEmpty());
+
+            ta = randomTree(new Random(round), n, new TreeSet<>());
+            tb = randomTree(new Random(round + 1000), m, new TreeSet<>());
+            ta.intersection(tb);
+            TreeSet<Integer> intersection = new TreeSet<>(a);
+            intersection.retainAll(b);
+            assertSame(intersection, ta);
+
+            ta = randomTree(new Random(round), n, new TreeSet<>());
+            tb = randomTree(new Random(round + 1000), m, new TreeSet<>());
+            ta.difference(tb);
+            TreeSet<Integer> difference = new TreeSet<>(a);
+            difference.removeAll(b);
+            assertSame(difference, ta);
+        }
+    }
+
+    @Test
+    public void prioritySupplierTest() {
+        List<TreapPriority<Object>> priorities = Arrays.asList(
+                TreapPriority.threadLocal(),
+                TreapPriority.random(new Random48(1L)),
+                TreapPriority.random(new MyRandom(1)),
+                TreapPriority.hashed(),
+                // 所有优先级都相同(并且等于 nullNode 的优先级)时树退化，但必须仍然正确
+                x -> Integer.MAX_VALUE);
+        for (TreapPriority<Object> priority : priorities) {
+            TreapTree<Integer> tree = new TreapTree<>(priority);
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(5);
+            for (int i = 0; i < 2000; i++) {
+                int x = random.nextInt(300);
+                if (random.nextInt(3) > 0) {
+                    tree.insert(x);
+                    expected.add(x);
+                } else {
+                    tree.remove(x);
+                    expected.remove(x);
+                }
+            }
+            assertSame(expected, tree);
+            assertSame(expected.tailSet(150, true), tree.split(150));
+        }
+    }
+
+    @Test
+    public void degenerateTest() {
+        // 所有优先级相同，有序插入时不发生旋转，树退化成一条长度为 n 的链
+        int n = 30_000;
+        TreapTree<Integer> tree = new TreapTree<>(x -> 0);
+        for (int i = 0; i < n; i++) {
+            tree.insert(i);
+        }
+        Assert.assertEquals(n, tree.size());
+        Assert.assertTrue(tree.contains(n - 1));
+        for (int i = 0; i < n; i += 2) {
+            tree.remove(i);
+        }
+        Assert.assertEquals(n / 2, tree.size());
+        int expected = 1;
+        for (Integer x : tree) {
+            Assert.assertEquals(expected, x.intValue());
+            expected += 2;
+        }
+        Assert.assertEquals(n + 1, expected);
+    }
+
+    private static TreapTree<Integer> randomTree(Random random, int n, TreeSet<Integer> expected) {
+        TreapTree<Integer> tree = new TreapTree<>();
+        for (int i = 0; i < n; i++) {
+            int x = random.nextInt(1000);
+            tree.insert(x);
+            expected.add(x);
+        }
+        return tree;
+    }
+
+    private static void assertSame(SortedSet<Integer> expected, TreapTree<Integer> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Iterator<Integer> it = actual.iterator();
+        int k = 0;
+        for (Integer x : expected) {
+            Assert.assertEquals(x, it.next());
+            Assert.assertEquals(x, actual.select(k++));
+        }
+        Assert.assertFalse(it.hasNext());
+    }
+
     @Test
     public void randomTest() {
         Random RANDOM_OBJ = new Random();
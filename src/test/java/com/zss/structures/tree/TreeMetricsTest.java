@@ -0,0 +1,93 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.tree.inter.Instrumented;
+import com.zss.structures.tree.inter.Tree;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 19:30
+ * @desc 树的运行统计测试，需要 -Dzss.tree.metrics=true (pom 中已为单元测试设置)
+ */
+public class TreeMetricsTest extends BaseTest {
+
+    private static final int N = 2000;
+
+    @Before
+    public void checkEnabled() {
+        Assume.assumeTrue(TreeMetrics.ENABLED);
+    }
+
+    @Test
+    public void countersTest() {
+        List<Tree<Integer>> trees = Arrays.asList(new BinarySearchTree<>(), new AvlBinarySearchTree<>(),
+                new RedBlackTree<>(), new SplayTree<>(), new TreapTree<>());
+        for (Tree<Integer> tree : trees) {
+            TreeMetrics metrics = run(tree);
+            System.out.println(metrics);
+            Assert.assertTrue(metrics.getComparisons() > 0);
+            // 每次 insert / contains / remove 恰好统计一次
+            Assert.assertEquals(3L * N, metrics.getOperations());
+            Assert.assertEquals(3L * N, Arrays.stream(metrics.getDepthHistogram()).sum());
+            Assert.assertEquals(N, Arrays.stream(metrics.getInsertLatencyHistogram()).sum());
+            Assert.assertEquals(N, Arrays.stream(metrics.getRemoveLatencyHistogram()).sum());
+            Assert.assertEquals(N, Arrays.stream(metrics.getContainsLatencyHistogram()).sum());
+            Assert.assertEquals(tree instanceof BinarySearchTree, metrics.getRotations() == 0);
+            Assert.assertEquals(tree instanceof RedBlackTree, metrics.getColorFlips() > 0);
+            Assert.assertEquals(tree instanceof SplayTree, metrics.getSplaySteps() > 0);
+
+            metrics.reset();
+            Assert.assertEquals(0, metrics.getComparisons());
+            Assert.assertEquals(0, metrics.getOperations());
+        }
+    }
+
+    @Test
+    public void jmxTest() throws Exception {
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+        TreeMetrics metrics = run(tree);
+        ObjectName name = metrics.register("jmxTest");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assert.assertEquals(metrics.getComparisons(), server.getAttribute(name, "Comparisons"));
+            Assert.assertEquals("AvlBinarySearchTree", server.getAttribute(name, "TreeType"));
+            Assert.assertArrayEquals(metrics.getDepthHistogram(), (long[]) server.getAttribute(name, "DepthHistogram"));
+            server.invoke(name, "reset", null, null);
+            Assert.assertEquals(0L, server.getAttribute(name, "Rotations"));
+        } finally {
+            metrics.unregister();
+        }
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    /**
+     * 插入、查找、删除各 N 次
+     */
+    private static TreeMetrics run(Tree<Integer> tree) {
+        TreeMetrics metrics = ((Instrumented) tree).metrics();
+        Assert.assertNotNull(metrics);
+        Random random = new Random(11);
+        int[] keys = random.ints(N, 0, N * 10).toArray();
+        for (int key : keys) {
+            tree.insert(key);
+        }
+        for (int key : keys) {
+            tree.contains(key + 1);
+        }
+        for (int key : keys) {
+            tree.remove(key);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,94 @@
+package com.zss.structures.tree;
+
+import com.zss.structures.BaseTest;
+import com.zss.structures.codec.KeyCodec;
+import com.zss.structures.tree.inter.Tree;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author ZSS
+ * @date 2026/10/20 20:00
+ * @desc 所有 Tree 实现的 insert / remove 返回值测试
+ */
+public class TreeTest extends BaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Tree<Integer>> trees() throws IOException {
+        return Arrays.asList(new BinarySearchTree<>(), new AvlBinarySearchTree<>(), new RedBlackTree<>(),
+                new ArrayRedBlackTree<>(), new SplayTree<>(), new TreapTree<>(), new LockFreeSkipList<>(),
+                new MappedBPlusTree<>(folder.newFile().toPath(), KeyCodec.INT, 64));
+    }
+
+    @Test
+    public void insertRemoveResultTest() throws IOException {
+        for (Tree<Integer> tree : trees()) {
+            String name = tree.getClass().getSimpleName();
+            Assert.assertFalse(name, tree.remove(1));
+            TreeSet<Integer> expected = new TreeSet<>();
+            Random random = new Random(13);
+            for (int i = 0; i < 5000; i++) {
+                int x = random.nextInt(300);
+                if (random.nextBoolean()) {
+                    Assert.assertEquals(name + " insert " + x, expected.add(x), tree.insert(x));
+                } else {
+                    Assert.assertEquals(name + " remove " + x, expected.remove(x), tree.remove(x));
+                }
+            }
+            for (int x = 0; x < 300; x++) {
+                Assert.assertEquals(name, expected.contains(x), tree.contains(x));
+            }
+            if (tree instanceof Closeable) {
+                ((Closeable) tree).close();
+            }
+        }
+    }
+
+    @Test
+    public void noOutputTest() throws IOException {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            for (Tree<Integer> tree : trees()) {
+                tree.remove(1);
+                tree.insert(1);
+                tree.insert(1);
+                tree.remove(2);
+                tree.remove(1);
+                tree.remove(1);
+                if (tree instanceof Closeable) {
+                    ((Closeable) tree).close();
+                }
+            }
+        } finally {
+            System.setOut(out);
+        }
+        Assert.assertEquals("", buffer.toString());
+    }
+
+    @Test
+    public void splayChainContainsTest() {
+        // 顺序插入后伸展树是一条长链，contains 不伸展，必须是循环才不会栈溢出
+        SplayTree<Integer> tree = new SplayTree<>();
+        int n = 200_000;
+        for (int i = 0; i < n; i++) {
+            tree.insert(i);
+        }
+        Assert.assertTrue(tree.contains(0));
+        Assert.assertFalse(tree.contains(-1));
+    }
+}